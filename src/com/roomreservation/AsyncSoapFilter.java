@@ -0,0 +1,225 @@
+package com.roomreservation;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static com.roomreservation.common.ConsoleColours.ANSI_RED;
+import static com.roomreservation.common.ConsoleColours.RESET;
+
+/**
+ * Answers the student operations of the web service without holding an HTTP worker while the remote
+ * campuses are queried. The JAX-WS handler only returns once the web method does, so a booking waiting
+ * on other campuses would keep a worker blocked. This filter decodes the RPC/literal request itself,
+ * starts the asynchronous operation and returns the worker to the pool, the SOAP response is written
+ * once the operation completes. The RI's AsyncProvider is not used as the built-in HTTP server transport
+ * runs providers synchronously, holding the worker all the same.
+ * Only well-formed student requests are answered here: admin operations, WSDL requests, requests with
+ * headers or with missing or malformed parts are passed on to the JAX-WS handler unchanged, which
+ * validates them and builds the faults. A failed operation is logged and answered with a generic
+ * fault, so exception details are not sent to clients.
+ *
+ * Configured with the following system properties:
+ *   roomreservation.http.async  Answer student operations asynchronously (default: true)
+ */
+public class AsyncSoapFilter extends Filter {
+    private static final String SOAP_NAMESPACE = "http://schemas.xmlsoap.org/soap/envelope/";
+    private static final String SERVICE_NAMESPACE = "http://roomreservation.com/";
+    private static final String INTERNAL_ERROR_FAULT = "<S:Envelope xmlns:S=\"" + SOAP_NAMESPACE + "\"><S:Body><S:Fault>"
+            + "<faultcode>S:Server</faultcode><faultstring>Internal server error</faultstring></S:Fault></S:Body></S:Envelope>";
+    private static final ThreadLocal<DocumentBuilder> documentBuilder = ThreadLocal.withInitial(AsyncSoapFilter::createDocumentBuilder);
+
+    private final RoomReservationImpl roomReservationImpl;
+    private final Executor executor;
+    private final Consumer<Throwable> failureHandler;
+    private final boolean enabled;
+
+    /**
+     * @param roomReservationImpl Web service implementation
+     * @param executor Executor the responses are written on
+     * @param failureHandler Called with the cause of every failed operation
+     */
+    public AsyncSoapFilter(RoomReservationImpl roomReservationImpl, Executor executor, Consumer<Throwable> failureHandler){
+        this.roomReservationImpl = roomReservationImpl;
+        this.executor = executor;
+        this.failureHandler = failureHandler;
+        this.enabled = Boolean.parseBoolean(System.getProperty("roomreservation.http.async", "true"));
+    }
+
+    @Override
+    public void doFilter(HttpExchange exchange, Chain chain) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (!enabled || !"POST".equals(exchange.getRequestMethod()) || contentType == null || !contentType.startsWith("text/xml")){
+            chain.doFilter(exchange);
+            return;
+        }
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        Element operation = parseOperation(body);
+        CompletableFuture<byte[]> reply = operation == null ? null : invoke(operation);
+        if (reply == null) {
+            // Not a valid student request, let the JAX-WS handler read the request again
+            exchange.setStreams(new ByteArrayInputStream(body), null);
+            chain.doFilter(exchange);
+            return;
+        }
+        String operationName = operation.getLocalName();
+        reply.whenCompleteAsync((result, throwable) -> {
+            try {
+                if (throwable != null) {
+                    System.out.println(ANSI_RED + "Web service " + operationName + ": " + getCause(throwable) + RESET);
+                    failureHandler.accept(getCause(throwable));
+                    writeResponse(exchange, 500, INTERNAL_ERROR_FAULT);
+                } else
+                    writeResponse(exchange, 200, response(operationName, result));
+            } catch (IOException e) {
+                exchange.close();
+            }
+        }, executor);
+    }
+
+    @Override
+    public String description(){
+        return "Answers student operations asynchronously";
+    }
+
+    /**
+     * Starts the asynchronous operation matching the request
+     * @param operation Operation element of the SOAP body
+     * @return Future completed with the RMI response object, null if the operation is not handled here
+     * or a part is missing or malformed
+     */
+    private CompletableFuture<byte[]> invoke(Element operation){
+        try {
+            return start(operation);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private CompletableFuture<byte[]> start(Element operation){
+        switch (operation.getLocalName()){
+            case "bookRoom":
+                return roomReservationImpl.bookRoomAsync(getPart(operation, "arg0"), getPart(operation, "arg1"),
+                        getIntPart(operation, "arg2"), getPart(operation, "arg3"), getPart(operation, "arg4"));
+            case "getAvailableTimeSlot":
+                return roomReservationImpl.getAvailableTimeSlotAsync(getPart(operation, "arg0"));
+            case "listAvailableTimeSlot":
+                return roomReservationImpl.listAvailableTimeSlotAsync(getPart(operation, "arg0"));
+            case "cancelBooking":
+                return roomReservationImpl.cancelBookingAsync(getPart(operation, "arg0"), getPart(operation, "arg1"));
+            case "changeReservation":
+                return roomReservationImpl.changeReservationAsync(getPart(operation, "arg0"), getPart(operation, "arg1"),
+                        getPart(operation, "arg2"), getIntPart(operation, "arg3"), getPart(operation, "arg4"), getPart(operation, "arg5"));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Gets the operation element of a SOAP request
+     * @param body Request body
+     * @return Operation element, null if the request is not a plain SOAP 1.1 request of this service
+     */
+    private static Element parseOperation(byte[] body){
+        Document document;
+        try {
+            DocumentBuilder builder = documentBuilder.get();
+            builder.reset();
+            builder.setErrorHandler(new DefaultHandler());
+            document = builder.parse(new ByteArrayInputStream(body));
+        } catch (SAXException | IOException e) {
+            return null;
+        }
+        Element envelope = document.getDocumentElement();
+        if (!"Envelope".equals(envelope.getLocalName()) || !SOAP_NAMESPACE.equals(envelope.getNamespaceURI()))
+            return null;
+        Element soapBody = null;
+        for (Node node = envelope.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (!(node instanceof Element))
+                continue;
+            // Headers may have to be understood, leave them to the JAX-WS handler
+            if ("Header".equals(node.getLocalName()) && getFirstElement(node) != null)
+                return null;
+            if ("Body".equals(node.getLocalName()))
+                soapBody = (Element) node;
+        }
+        if (soapBody == null)
+            return null;
+        Element operation = getFirstElement(soapBody);
+        if (operation == null || !SERVICE_NAMESPACE.equals(operation.getNamespaceURI()))
+            return null;
+        return operation;
+    }
+
+    private static Element getFirstElement(Node parent){
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element)
+                return (Element) node;
+        }
+        return null;
+    }
+
+    private static String getPart(Element operation, String name){
+        for (Node node = operation.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element && name.equals(node.getLocalName()))
+                return node.getTextContent();
+        }
+        throw new IllegalArgumentException("Missing part " + name + " of " + operation.getLocalName());
+    }
+
+    private static int getIntPart(Element operation, String name){
+        // NumberFormatException is an IllegalArgumentException
+        return Integer.parseInt(getPart(operation, name).trim());
+    }
+
+    private static Throwable getCause(Throwable throwable){
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    private static String response(String operationName, byte[] result){
+        return "<S:Envelope xmlns:S=\"" + SOAP_NAMESPACE + "\"><S:Body><ns2:" + operationName + "Response xmlns:ns2=\""
+                + SERVICE_NAMESPACE + "\"><return>" + Base64.getEncoder().encodeToString(result) + "</return></ns2:"
+                + operationName + "Response></S:Body></S:Envelope>";
+    }
+
+    private static void writeResponse(HttpExchange exchange, int status, String envelope) throws IOException {
+        byte[] bytes = envelope.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/xml; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private static DocumentBuilder createDocumentBuilder(){
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setXIncludeAware(false);
+            factory.setExpandEntityReferences(false);
+            return factory.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
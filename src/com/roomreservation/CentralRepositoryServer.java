@@ -4,15 +4,22 @@ import com.roomreservation.collection.Entry;
 import com.roomreservation.collection.Node;
 import com.roomreservation.collection.Position;
 import com.roomreservation.collection.LinkedPositionalList;
+import com.roomreservation.common.CentralRepositoryUtils;
 import com.roomreservation.protobuf.protos.CentralRepository;
 import com.roomreservation.protobuf.protos.CentralRepositoryAction;
 
 import java.io.IOException;
-import java.net.DatagramPacket;
 import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
+import java.net.SocketAddress;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.Random;
 
 import static com.roomreservation.common.ConsoleColours.ANSI_RED;
@@ -27,11 +34,15 @@ public class CentralRepositoryServer {
     private static volatile ArrayList<Integer> usedPorts;
 
     public static void main(String[] args){
-        DatagramSocket datagramSocket = null;
+        DatagramChannel datagramChannel = null;
+        Selector selector = null;
         try {
-            datagramSocket = new DatagramSocket(1024);
+            datagramChannel = DatagramChannel.open();
+            datagramChannel.bind(new InetSocketAddress(1024));
+            datagramChannel.configureBlocking(false);
+            selector = Selector.open();
+            datagramChannel.register(selector, SelectionKey.OP_READ);
             System.out.println("Central repository ready");
-            byte[] buffer = new byte[1000];
 
             // Initialize with udp and rmi as types
             usedPorts = new ArrayList<>();
@@ -39,19 +50,32 @@ public class CentralRepositoryServer {
             repository.addFirst(new Node<>("udp", new LinkedPositionalList<>()));
             repository.addFirst(new Node<>("web", new LinkedPositionalList<>()));
 
+            // Requests only touch the in-memory repository and are answered before the next one is
+            // received, so a single receive buffer is reused
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CentralRepositoryUtils.MAX_MESSAGE_SIZE);
             while (true){
-                DatagramPacket datagramPacket = new DatagramPacket(buffer, buffer.length);
-                datagramSocket.receive(datagramPacket);
-
-                // Launch a new thread for each request
-                DatagramSocket finalDatagramSocket = datagramSocket;
-                new Thread(() -> {
-                    try {
-                        handleUDPRequest(finalDatagramSocket, datagramPacket);
-                    } catch (IOException e) {
-                        System.out.println(ANSI_RED + "Exception: " + e.getMessage() + RESET);
+                selector.select();
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()){
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    if (!key.isReadable())
+                        continue;
+
+                    // Drain every datagram waiting on the channel
+                    while (true){
+                        buffer.clear();
+                        SocketAddress address = datagramChannel.receive(buffer);
+                        if (address == null)
+                            break;
+                        buffer.flip();
+                        try {
+                            handleUDPRequest(datagramChannel, address, buffer);
+                        } catch (IOException | IllegalArgumentException e) {
+                            System.out.println(ANSI_RED + "Exception: " + e.getMessage() + RESET);
+                        }
                     }
-                }).start();
+                }
             }
         } catch (SocketException e){
             System.out.println("Socket: " + e.getMessage());
@@ -64,20 +88,25 @@ public class CentralRepositoryServer {
             System.exit(1);
         }
         finally {
-            if (datagramSocket != null)
-                datagramSocket.close();
+            try {
+                if (selector != null)
+                    selector.close();
+                if (datagramChannel != null)
+                    datagramChannel.close();
+            } catch (IOException ignored) {}
         }
     }
 
     /**
-     * Thread method to processed incoming UDP request
-     * @param datagramSocket Datagram socket
-     * @param datagramPacket Datagram packet
+     * Processes incoming UDP request and sends the reply
+     * @param datagramChannel Datagram channel
+     * @param address Client address
+     * @param buffer Receive buffer holding the request, only valid until this method returns
      * @throws IOException Exception
      */
-    private static void handleUDPRequest(DatagramSocket datagramSocket, DatagramPacket datagramPacket) throws IOException {
+    private static void handleUDPRequest(DatagramChannel datagramChannel, SocketAddress address, ByteBuffer buffer) throws IOException {
         // Decode request object
-        CentralRepository requestCentralRepository = CentralRepository.parseFrom(trim(datagramPacket));
+        CentralRepository requestCentralRepository = CentralRepository.parseFrom(buffer);
 
         // Build response object
         CentralRepository responseCentralRepository;
@@ -97,20 +126,7 @@ public class CentralRepositoryServer {
         }
 
         // Encode response object
-        byte[] response = responseCentralRepository.toByteArray();
-        DatagramPacket reply = new DatagramPacket(response, response.length, datagramPacket.getAddress(), datagramPacket.getPort());
-        datagramSocket.send(reply);
-    }
-
-    /**
-     * Trims incoming packet to strip out 0s so that Protobuf can parse it
-     * @param packet Datagram packet
-     * @return Trimmed byte array
-     */
-    private static byte[] trim(DatagramPacket packet) {
-        byte[] data = new byte[packet.getLength()];
-        System.arraycopy(packet.getData(), packet.getOffset(), data, 0, packet.getLength());
-        return data;
+        datagramChannel.send(ByteBuffer.wrap(responseCentralRepository.toByteArray()), address);
     }
 
     /**
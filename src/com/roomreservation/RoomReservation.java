@@ -21,6 +21,8 @@ public interface RoomReservation {
     @WebMethod
     byte[] getAvailableTimeSlot(String date);
     @WebMethod
+    byte[] listAvailableTimeSlot(String date);
+    @WebMethod
     byte[] cancelBooking(String identifier, String bookingId);
     @WebMethod
     byte[] changeReservation(String identifier, String bookingId, String newCampusName, int newRoomNumber, String newDate, String newTimeslot);
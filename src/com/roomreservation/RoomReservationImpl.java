@@ -1,27 +1,29 @@
 package com.roomreservation;
 
 import com.google.protobuf.InvalidProtocolBufferException;
-import com.roomreservation.collection.Entry;
-import com.roomreservation.collection.LinkedPositionalList;
-import com.roomreservation.collection.Node;
-import com.roomreservation.collection.Position;
 import com.roomreservation.common.*;
 import com.roomreservation.protobuf.protos.*;
+import com.roomreservation.store.BookingQuota;
+import com.roomreservation.store.DurabilityException;
+import com.roomreservation.store.RoomStore;
+import com.roomreservation.store.Snapshotter;
+import com.roomreservation.store.Timeslot;
+import com.roomreservation.store.WriteAheadLog;
 
 import javax.jws.WebService;
 import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
+import java.io.UncheckedIOException;
 import java.net.InetAddress;
-import java.net.SocketException;
-import java.text.ParseException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
 import java.text.SimpleDateFormat;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.util.ArrayList;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.roomreservation.common.ConsoleColours.ANSI_RED;
 import static com.roomreservation.common.ConsoleColours.RESET;
@@ -29,29 +31,52 @@ import static com.roomreservation.common.ConsoleColours.RESET;
 @WebService(endpointInterface = "com.roomreservation.RoomReservation")
 public class RoomReservationImpl implements RoomReservation {
 
-    private static volatile LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>>>> database;
-    private static volatile LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<Date, Integer>>>> bookingCount;
+    private static volatile RoomStore database;
+    private static volatile BookingQuota bookingCount;
     private final String logFilePath;
     private final Campus campus;
-    private final ReentrantLock databaseLock = new ReentrantLock();
-    private final ReentrantLock bookingLock = new ReentrantLock();
+    private final ScatterGather scatterGather = new ScatterGather();
+    private final UdpClient udpClient;
+    private final RequestCoalescer requestCoalescer;
+    private final InetAddress host;
+    private final EnumMap<Campus, CircuitBreaker> circuitBreakers = new EnumMap<>(Campus.class);
+    private final EnumMap<Campus, RttEstimator> rttEstimators = new EnumMap<>(Campus.class);
+    private Snapshotter snapshotter;
+    private WriteAheadLog writeAheadLog;
+    private final AtomicBoolean databaseClosed = new AtomicBoolean();
 
     public RoomReservationImpl() throws IOException {
-        database = new LinkedPositionalList<>();
-        bookingCount = new LinkedPositionalList<>();
+        database = new RoomStore();
+        bookingCount = new BookingQuota();
+        udpClient = new UdpClient();
+        requestCoalescer = new RequestCoalescer(udpClient, Long.getLong("roomreservation.udp.batchWindow", 2));
+        host = InetAddress.getLocalHost();
+        for (Campus remoteCampus: Campus.values()){
+            circuitBreakers.put(remoteCampus, new CircuitBreaker(remoteCampus.toString()));
+            rttEstimators.put(remoteCampus, new RttEstimator());
+        }
+        CentralRepositoryUtils.prefetch("udp");
         this.campus = Campus.DVL;
         logFilePath = "log/server/" + this.campus.toString() + ".csv";
         Logger.initializeLog(logFilePath);
-        this.generateSampleData();
+        this.recoverDatabase();
     }
 
     protected RoomReservationImpl(Campus campus) throws IOException {
-        database = new LinkedPositionalList<>();
-        bookingCount = new LinkedPositionalList<>();
+        database = new RoomStore();
+        bookingCount = new BookingQuota();
+        udpClient = new UdpClient();
+        requestCoalescer = new RequestCoalescer(udpClient, Long.getLong("roomreservation.udp.batchWindow", 2));
+        host = InetAddress.getLocalHost();
+        for (Campus remoteCampus: Campus.values()){
+            circuitBreakers.put(remoteCampus, new CircuitBreaker(remoteCampus.toString()));
+            rttEstimators.put(remoteCampus, new RttEstimator());
+        }
+        CentralRepositoryUtils.prefetch("udp");
         this.campus = campus;
         logFilePath = "log/server/" + this.campus.toString() + ".csv";
         Logger.initializeLog(logFilePath);
-        this.generateSampleData();
+        this.recoverDatabase();
     }
 
     /**
@@ -62,59 +87,15 @@ public class RoomReservationImpl implements RoomReservation {
      * @return RMI response object
      */
     @Override
-    public synchronized byte[] createRoom(int roomNumber, String date, byte[] listOfTimeSlots) {
+    public byte[] createRoom(int roomNumber, String date, byte[] listOfTimeSlots) {
         try {
             ListOfTimeSlots listOfTimeSlotsProto = ListOfTimeSlots.parseFrom(listOfTimeSlots);
-            Position<Entry<String, LinkedPositionalList<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>>>> datePosition = findDate(date);
-            boolean timeSlotCreated = false;
-            boolean roomExist = false;
-            if (datePosition == null){
-                // Date not found so create date entry
-                LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>> timeslots = new LinkedPositionalList<>();
-                for (String timeslot: listOfTimeSlotsProto.getTimeslotList()){
-                    timeslots.addFirst(new Node<>(timeslot, null));
-                }
-                databaseLock.lock();
-                try {
-                    database.addFirst(new Node<>(date, new LinkedPositionalList<>(new Node<>(roomNumber, timeslots))));
-                } finally {
-                    databaseLock.unlock();
-                }
-            } else {
-                // Date exist, check if room exist
-                Position<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>> roomPosition = findRoom(roomNumber, datePosition);
-                if (roomPosition == null) {
-                    // Room not found so create room
-                    LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>> timeslots = new LinkedPositionalList<>();
-                    for (String timeslot: listOfTimeSlotsProto.getTimeslotList()){
-                        timeslots.addFirst(new Node<>(timeslot, null));
-                    }
-                    databaseLock.lock();
-                    try {
-                        datePosition.getElement().getValue().addFirst(new Node<>(roomNumber, timeslots));
-                    } finally {
-                        databaseLock.unlock();
-                    }
-                } else {
-                    // Room exist, so check if timeslot exist
-                    roomExist = true;
-                    for (String timeslot: listOfTimeSlotsProto.getTimeslotList()){
-                        databaseLock.lock();
-                        try {
-                            // Timeslot does not exist, so create it, skip otherwise
-                            roomPosition.getElement().getValue().addFirst(new Node<>(timeslot, null));
-                            timeSlotCreated = true;
-                        } finally {
-                            databaseLock.unlock();
-                        }
-                    }
-                }
-            }
+            RoomStore.CreateResult result = database.createRoom(date, roomNumber, listOfTimeSlotsProto.getTimeslotList());
             ResponseObject.Builder responseObject = ResponseObject.newBuilder();
-            if (!roomExist) {
+            if (result == RoomStore.CreateResult.CREATED) {
                 responseObject.setMessage("Created room (" + roomNumber + ")");
                 responseObject.setStatus(true);
-            } else if (!timeSlotCreated){
+            } else if (result == RoomStore.CreateResult.UNCHANGED){
                 responseObject.setMessage("Room already exist with specified timeslots");
                 responseObject.setStatus(false);
             } else {
@@ -145,41 +126,18 @@ public class RoomReservationImpl implements RoomReservation {
      * @return RMI Response object
      */
     @Override
-    public synchronized byte[] deleteRoom(int roomNumber, String date, byte[] listOfTimeSlots) {
+    public byte[] deleteRoom(int roomNumber, String date, byte[] listOfTimeSlots) {
         try {
             ListOfTimeSlots listOfTimeSlotsProto = ListOfTimeSlots.parseFrom(listOfTimeSlots);
-            Position<Entry<String, LinkedPositionalList<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>>>> datePosition = findDate(date);
-            boolean timeslotExist = false;
-            if (datePosition != null){
-                // Date exist, check if room exist
-                Position<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>> roomPosition = findRoom(roomNumber, datePosition);
-                if (roomPosition != null) {
-                    // Room found, search for timeslots
-                    for (String timeslot: listOfTimeSlotsProto.getTimeslotList()){
-                        Position<Entry<String, LinkedPositionalList<Entry<String, String>>>> timeslotPosition = findTimeslot(timeslot, roomPosition);
-                        if (timeslotPosition != null) {
-                            if (timeslotPosition.getElement().getValue() != null) {
-                                for (Position<Entry<String, String>> timeslotPropertiesNext : timeslotPosition.getElement().getValue().positions()) {
-                                    if (timeslotPropertiesNext.getElement().getValue().equals("studentId")) {
-                                        // Reduce booking count for student
-                                        decreaseBookingCounter(timeslotPropertiesNext.getElement().getValue(), datePosition.getElement().getKey());
-                                    }
-                                }
-                            }
-                            databaseLock.lock();
-                            try {
-                                // Timeslot exists, so delete it
-                                roomPosition.getElement().getValue().remove(timeslotPosition);
-                                timeslotExist = true;
-                            } finally {
-                                databaseLock.unlock();
-                            }
-                        }
-                    }
+            List<Timeslot> removedTimeslots = database.deleteRoom(date, roomNumber, listOfTimeSlotsProto.getTimeslotList());
+            for (Timeslot timeslot: removedTimeslots){
+                if (timeslot.isBooked()) {
+                    // Reduce booking count for student
+                    decreaseBookingCounter(timeslot.getStudentId(), date);
                 }
             }
             ResponseObject.Builder responseObject = ResponseObject.newBuilder();
-            if (!timeslotExist){
+            if (removedTimeslots.isEmpty()){
                 responseObject.setMessage("No timeslots to delete on (" + date + ")");
                 responseObject.setStatus(false);
             } else {
@@ -212,9 +170,22 @@ public class RoomReservationImpl implements RoomReservation {
      * @return RMI response object
      */
     @Override
-    public synchronized byte[] bookRoom(String identifier, String campus, int roomNumber, String date, String timeslot) {
+    public byte[] bookRoom(String identifier, String campus, int roomNumber, String date, String timeslot) {
+        return bookRoomAsync(identifier, campus, roomNumber, date, timeslot).join();
+    }
+
+    /**
+     * Books room without holding the caller's thread while waiting on other campuses
+     * @param identifier User ID (ie. dvls1234)
+     * @param campus Campus name (dvl, wst, kkl)
+     * @param roomNumber Campus room number
+     * @param date Date
+     * @param timeslot Timeslot to book
+     * @return Future completed with the RMI response object
+     */
+    public CompletableFuture<byte[]> bookRoomAsync(String identifier, String campus, int roomNumber, String date, String timeslot) {
         if (Campus.valueOf(campus).equals(this.campus))
-            return bookRoomOnCampus(identifier, roomNumber, date, timeslot);
+            return bookRoomOnCampusAsync(identifier, roomNumber, date, timeslot);
         else {
             // Perform action on remote server
             RequestObject.Builder requestObject = RequestObject.newBuilder();
@@ -224,7 +195,7 @@ public class RoomReservationImpl implements RoomReservation {
             requestObject.setCampusName(campus.toString());
             requestObject.setDate(date);
             requestObject.setTimeslot(timeslot);
-            return udpTransfer(Campus.valueOf(campus), requestObject.build()).toByteArray();
+            return udpTransferAsync(Campus.valueOf(campus), requestObject.build()).thenApply(ResponseObject::toByteArray);
         }
     }
 
@@ -234,39 +205,91 @@ public class RoomReservationImpl implements RoomReservation {
      * @return RMI response object
      */
     @Override
-    public synchronized byte[] getAvailableTimeSlot(String date) {
+    public byte[] getAvailableTimeSlot(String date) {
+        return getAvailableTimeSlotAsync(date).join();
+    }
+
+    /**
+     * Queries all campuses in parallel for available timeslots without holding the caller's thread
+     * @param date Date
+     * @return Future completed with the RMI response object
+     */
+    public CompletableFuture<byte[]> getAvailableTimeSlotAsync(String date) {
         // Build new proto request object
         RequestObject.Builder requestObject = RequestObject.newBuilder();
         requestObject.setAction(RequestObjectAction.GetAvailableTimeslots.toString());
         requestObject.setDate(date);
+        RequestObject availableTimeslotsRequest = requestObject.build();
+
+        return scatterGather.gatherAsync(remoteCampus -> udpTransferAsync(remoteCampus, availableTimeslotsRequest), ScatterGather.DEFAULT_DEADLINE).thenApply(timeslots -> {
+            StringBuilder message = new StringBuilder();
+            for (Campus remoteCampus: timeslots.keySet()){
+                ResponseObject campusTimeslots = timeslots.get(remoteCampus);
+                if (message.length() > 0)
+                    message.append(" ");
+                if (campusTimeslots.getStatus())
+                    message.append(remoteCampus).append(" ").append(campusTimeslots.getMessage());
+                else
+                    message.append(remoteCampus).append(" (no response from server)");
+            }
 
-        ResponseObject dvlTimeslots = udpTransfer(Campus.DVL, requestObject.build());
-        ResponseObject kklTimeslots = udpTransfer(Campus.KKL, requestObject.build());
-        ResponseObject wstTimeslots = udpTransfer(Campus.WST, requestObject.build());
+            //  Create response object for rmi
+            ResponseObject.Builder responseObject = ResponseObject.newBuilder();
+            responseObject.setMessage(message.toString());
+            responseObject.setDateTime(new Date().toString());
+            responseObject.setRequestType(RequestObjectAction.GetAvailableTimeslots.toString());
+            responseObject.setRequestParameters("Date: " + date);
+            responseObject.setStatus(true);
+            Logger.log(logFilePath, responseObject.build());
+            return responseObject.build().toByteArray();
+        });
+    }
 
-        String message = "";
-        if (dvlTimeslots.getStatus())
-            message += "DVL " + dvlTimeslots.getMessage() + " ";
-        else
-            message += "DVL (no response from server) ";
-        if (kklTimeslots.getStatus())
-            message += "KKL " + kklTimeslots.getMessage() + " ";
-        else
-            message += "KKL (no response from server) ";
-        if (wstTimeslots.getStatus())
-            message += "WST " + wstTimeslots.getMessage();
-        else
-            message += "WST (no response from server)";
+    /**
+     * List available timeslot RMI method
+     * @param date Date
+     * @return RMI response object
+     */
+    @Override
+    public byte[] listAvailableTimeSlot(String date) {
+        return listAvailableTimeSlotAsync(date).join();
+    }
 
-        //  Create response object for rmi
-        ResponseObject.Builder responseObject = ResponseObject.newBuilder();
-        responseObject.setMessage(message);
-        responseObject.setDateTime(new Date().toString());
-        responseObject.setRequestType(RequestObjectAction.GetAvailableTimeslots.toString());
-        responseObject.setRequestParameters("Date: " + date);
-        responseObject.setStatus(true);
-        Logger.log(logFilePath, responseObject.build());
-        return responseObject.build().toByteArray();
+    /**
+     * Queries all campuses in parallel for the list of free timeslots. Listings can be larger than a
+     * single datagram, the replies are fragmented by the remote servers and reassembled by the UDP client.
+     * @param date Date
+     * @return Future completed with the RMI response object
+     */
+    public CompletableFuture<byte[]> listAvailableTimeSlotAsync(String date) {
+        // Build new proto request object
+        RequestObject.Builder requestObject = RequestObject.newBuilder();
+        requestObject.setAction(RequestObjectAction.ListAvailableTimeslots.toString());
+        requestObject.setDate(date);
+        RequestObject listTimeslotsRequest = requestObject.build();
+
+        return scatterGather.gatherAsync(remoteCampus -> udpTransferAsync(remoteCampus, listTimeslotsRequest), ScatterGather.DEFAULT_DEADLINE).thenApply(timeslots -> {
+            StringBuilder message = new StringBuilder();
+            for (Campus remoteCampus: timeslots.keySet()){
+                ResponseObject campusTimeslots = timeslots.get(remoteCampus);
+                if (message.length() > 0)
+                    message.append(" | ");
+                if (campusTimeslots.getStatus())
+                    message.append(remoteCampus).append(": ").append(campusTimeslots.getMessage());
+                else
+                    message.append(remoteCampus).append(": (no response from server)");
+            }
+
+            //  Create response object for rmi
+            ResponseObject.Builder responseObject = ResponseObject.newBuilder();
+            responseObject.setMessage(message.toString());
+            responseObject.setDateTime(new Date().toString());
+            responseObject.setRequestType(RequestObjectAction.ListAvailableTimeslots.toString());
+            responseObject.setRequestParameters("Date: " + date);
+            responseObject.setStatus(true);
+            Logger.log(logFilePath, responseObject.build());
+            return responseObject.build().toByteArray();
+        });
     }
 
     /**
@@ -276,17 +299,27 @@ public class RoomReservationImpl implements RoomReservation {
      * @return RMI response object
      */
     @Override
-    public synchronized byte[] cancelBooking(String identifier, String bookingId) {
+    public byte[] cancelBooking(String identifier, String bookingId) {
+        return cancelBookingAsync(identifier, bookingId).join();
+    }
+
+    /**
+     * Cancels booking without holding the caller's thread while waiting on another campus
+     * @param identifier User ID (ie. dvls1234)
+     * @param bookingId Booking id
+     * @return Future completed with the RMI response object
+     */
+    public CompletableFuture<byte[]> cancelBookingAsync(String identifier, String bookingId) {
         Campus campus = Campus.valueOf(bookingId.split(":")[0]);
         if (campus.equals(this.campus))
-            return cancelBookingOnCampus(identifier, bookingId);
+            return CompletableFuture.completedFuture(cancelBookingOnCampus(identifier, bookingId));
         else {
             // Perform action on remote server
             RequestObject.Builder requestObject = RequestObject.newBuilder();
             requestObject.setAction(RequestObjectAction.CancelBooking.toString());
             requestObject.setIdentifier(identifier);
             requestObject.setBookingId(bookingId);
-            return udpTransfer(campus, requestObject.build()).toByteArray();
+            return udpTransferAsync(campus, requestObject.build()).thenApply(ResponseObject::toByteArray);
         }
     }
 
@@ -302,48 +335,62 @@ public class RoomReservationImpl implements RoomReservation {
      */
     @Override
     public byte[] changeReservation(String identifier, String bookingId, String newCampusName, int newRoomNumber, String newDate, String newTimeslot) {
+        return changeReservationAsync(identifier, bookingId, newCampusName, newRoomNumber, newDate, newTimeslot).join();
+    }
+
+    /**
+     * Changes reservation without holding the caller's thread while waiting on other campuses
+     * @param identifier User ID (ie. dvls1234)
+     * @param bookingId Booking ID
+     * @param newCampusName New campus to make reservation on
+     * @param newRoomNumber New room number to make reservation on
+     * @param newDate New date to make reservation on
+     * @param newTimeslot New timeslot to make reservation on
+     * @return Future completed with the Corba response object
+     */
+    public CompletableFuture<byte[]> changeReservationAsync(String identifier, String bookingId, String newCampusName, int newRoomNumber, String newDate, String newTimeslot) {
         String requestParameters = "Booking ID: " + bookingId + " | Campus Name: " + newCampusName + " | Room number: " + newRoomNumber + " | New date: " + newDate + " | Timeslot: " + newTimeslot;
-        try{
-            // Cancel existing booking
-            ResponseObject cancelBooking = ResponseObject.parseFrom(cancelBooking(identifier, bookingId));
-            if (cancelBooking.getStatus()){
+        // Cancel existing booking
+        return cancelBookingAsync(identifier, bookingId).thenCompose(cancelReply -> {
+            try {
+                ResponseObject cancelBooking = ResponseObject.parseFrom(cancelReply);
+                if (!cancelBooking.getStatus())
+                    return CompletableFuture.completedFuture(changeReservationResponse(requestParameters, cancelBooking.getStatus(), cancelBooking.getMessage(), cancelBooking.getDateTime()));
+
                 // Create new booking
-                ResponseObject createBooking = ResponseObject.parseFrom(bookRoom(identifier, newCampusName, newRoomNumber, newDate, newTimeslot));
-                if (createBooking.getStatus()){
-                    ResponseObject.Builder response = ResponseObject.newBuilder();
-                    response.setRequestType(RequestObjectAction.ChangeReservation.toString());
-                    response.setRequestParameters(requestParameters);
-                    response.setStatus(true);
-                    response.setMessage(createBooking.getMessage());
-                    response.setDateTime(new SimpleDateFormat("yyyy-MM-dd").format(new Date()));
-                    return response.build().toByteArray();
-                } else {
-                    ResponseObject.Builder response = ResponseObject.newBuilder();
-                    response.setRequestType(RequestObjectAction.ChangeReservation.toString());
-                    response.setRequestParameters(requestParameters);
-                    response.setStatus(createBooking.getStatus());
-                    response.setMessage(createBooking.getMessage());
-                    response.setDateTime(createBooking.getDateTime());
-                    return response.build().toByteArray();
-                }
-            } else {
-                ResponseObject.Builder response = ResponseObject.newBuilder();
-                response.setRequestType(RequestObjectAction.ChangeReservation.toString());
-                response.setRequestParameters(requestParameters);
-                response.setStatus(cancelBooking.getStatus());
-                response.setMessage(cancelBooking.getMessage());
-                response.setDateTime(cancelBooking.getDateTime());
-                return response.build().toByteArray();
+                return bookRoomAsync(identifier, newCampusName, newRoomNumber, newDate, newTimeslot).thenApply(createReply -> {
+                    try {
+                        ResponseObject createBooking = ResponseObject.parseFrom(createReply);
+                        if (createBooking.getStatus())
+                            return changeReservationResponse(requestParameters, true, createBooking.getMessage(), new SimpleDateFormat("yyyy-MM-dd").format(new Date()));
+                        return changeReservationResponse(requestParameters, createBooking.getStatus(), createBooking.getMessage(), createBooking.getDateTime());
+                    } catch (InvalidProtocolBufferException e) {
+                        e.printStackTrace();
+                    }
+                    return changeReservationResponse(requestParameters, false, "Error decoding protobuf message", new Date().toString());
+                });
+            } catch (InvalidProtocolBufferException e) {
+                e.printStackTrace();
             }
-        } catch (InvalidProtocolBufferException e) {
-            e.printStackTrace();
-        }
+            return CompletableFuture.completedFuture(changeReservationResponse(requestParameters, false, "Error decoding protobuf message", new Date().toString()));
+        });
+    }
+
+    /**
+     * Builds change reservation response object
+     * @param requestParameters Request parameters
+     * @param status Status
+     * @param message Message
+     * @param dateTime Date time
+     * @return Corba response object
+     */
+    private byte[] changeReservationResponse(String requestParameters, boolean status, String message, String dateTime) {
         ResponseObject.Builder response = ResponseObject.newBuilder();
         response.setRequestType(RequestObjectAction.ChangeReservation.toString());
         response.setRequestParameters(requestParameters);
-        response.setStatus(false);
-        response.setMessage("Error decoding protobuf message");
-        response.setDateTime(new Date().toString());
+        response.setStatus(status);
+        response.setMessage(message);
+        response.setDateTime(dateTime);
         return response.build().toByteArray();
     }
 
@@ -353,15 +400,7 @@ public class RoomReservationImpl implements RoomReservation {
      * @return RMI response object
      */
     public byte[] getAvailableTimeSlotOnCampus(String date) {
-        int counter = 0;
-        for (Position<Entry<String, LinkedPositionalList<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>>>> dateNext : database.positions()) {
-            for (Position<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>> roomNext : dateNext.getElement().getValue().positions()) {
-                for (Position<Entry<String, LinkedPositionalList<Entry<String, String>>>> timeslotNext : roomNext.getElement().getValue().positions()) {
-                    if (timeslotNext.getElement().getValue() == null && dateNext.getElement().getKey().equals(date))
-                        counter++;
-                }
-            }
-        }
+        int counter = database.countAvailable(date);
         ResponseObject.Builder responseObject = ResponseObject.newBuilder();
         responseObject.setMessage(Integer.toString(counter));
         responseObject.setDateTime(new Date().toString());
@@ -373,29 +412,43 @@ public class RoomReservationImpl implements RoomReservation {
     }
 
     /**
-     * Counts the number of bookings on a specific date for a specific user
-     * @param identifier User ID (ie. dvls1234)
+     * Lists free timeslots on a specific date on the current campus
      * @param date Date
-     * @return RMI response object
+     * @return RMI response object, message is a comma separated list of "room timeslot"
      */
-    public byte[] getBookingCount(String identifier, Date date) {
-        int counter = 0;
-        LocalDate tempDate = date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-        for (Position<Entry<String, LinkedPositionalList<Entry<Date, Integer>>>> bookingIdentifier: bookingCount.positions()){
-            if (bookingIdentifier.getElement().getKey().equals(identifier)) {
-                for (Position<Entry<Date, Integer>> bookingDate: bookingIdentifier.getElement().getValue().positions()){
-                    // Counter date is >= than provided date (-1 week) and Counter date is < provided date
-                    if ((bookingDate.getElement().getKey().compareTo(Date.from(tempDate.minusWeeks(1).atStartOfDay(ZoneId.systemDefault()).toInstant())) > 0)
-                        && (bookingDate.getElement().getKey().compareTo(Date.from(tempDate.atStartOfDay(ZoneId.systemDefault()).toInstant())) <= 0)){
-                        // Within 1 week so it counts
-                        counter += bookingDate.getElement().getValue();
-                    }
-                }
-            }
+    public byte[] listAvailableTimeSlotOnCampus(String date) {
+        StringBuilder message = new StringBuilder();
+        for (Timeslot timeslot: database.listAvailable(date)){
+            if (message.length() > 0)
+                message.append(", ");
+            message.append(timeslot.getRoomNumber()).append(" ").append(timeslot.getTimeslot());
         }
         ResponseObject.Builder responseObject = ResponseObject.newBuilder();
+        responseObject.setMessage(message.toString());
+        responseObject.setDateTime(new Date().toString());
+        responseObject.setRequestType(RequestObjectAction.ListAvailableTimeslots.toString());
+        responseObject.setRequestParameters("Date: " + date);
         responseObject.setStatus(true);
-        responseObject.setMessage(Integer.toString(counter));
+        Logger.log(logFilePath, responseObject.build());
+        return responseObject.build().toByteArray();
+    }
+
+    /**
+     * Counts the number of bookings on a specific date for a specific user
+     * @param identifier User ID (ie. dvls1234)
+     * @param date Date (ie. 2021-01-01)
+     * @return RMI response object
+     */
+    public byte[] getBookingCount(String identifier, String date) {
+        int epochDay = BookingQuota.tryToEpochDay(date);
+        ResponseObject.Builder responseObject = ResponseObject.newBuilder();
+        if (epochDay == BookingQuota.INVALID_DAY){
+            responseObject.setStatus(false);
+            responseObject.setMessage("Invalid date (" + date + ")");
+        } else {
+            responseObject.setStatus(true);
+            responseObject.setMessage(Integer.toString(bookingCount.windowSum(identifier, epochDay)));
+        }
         responseObject.setDateTime(new Date().toString());
         responseObject.setRequestType(RequestObjectAction.GetBookingCount.toString());
         responseObject.setRequestParameters("Identifier: " + identifier + " | Date: " + date);
@@ -404,84 +457,67 @@ public class RoomReservationImpl implements RoomReservation {
     }
 
     /**
-     * Books room for a specific user in a specific room, on a specific day and timeslot
+     * Books room for a specific user in a specific room, on a specific day and timeslot. The booking
+     * counts of the other campuses are gathered without holding a thread.
      * @param identifier User ID (ie. dvls1234)
      * @param roomNumber Room number
      * @param date Date
      * @param timeslot Timeslot
-     * @return RMI response object
+     * @return Future completed with the RMI response object
      */
-    private byte[] bookRoomOnCampus(String identifier, int roomNumber, String date, String timeslot) {
-        boolean isOverBookingCountLimit = false;
-        boolean timeslotExist = false;
-        boolean isBooked = false;
-        String bookingId = "";
-        Position<Entry<String, LinkedPositionalList<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>>>> datePosition = findDate(date);
-        if (datePosition != null) {
-            // Date exist, check if room exist
-            Position<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>> roomPosition = findRoom(roomNumber, datePosition);
-            if (roomPosition != null) {
-                // Room found, search for timeslots
-                Position<Entry<String, LinkedPositionalList<Entry<String, String>>>> timeslotPosition = findTimeslot(timeslot, roomPosition);
-
-                // Check if timeslot exist
-                if (timeslotPosition != null) {
-                    timeslotExist = true;
-
-                    // Check booking count for this week on all campuses
-                    RequestObject.Builder requestBookingCount = RequestObject.newBuilder();
-                    requestBookingCount.setIdentifier(identifier);
-                    requestBookingCount.setDate(date);
-                    requestBookingCount.setAction(RequestObjectAction.GetBookingCount.toString());
-                    ResponseObject dvlBookingCount = udpTransfer(Campus.DVL, requestBookingCount.build());
-                    ResponseObject kklBookingCount = udpTransfer(Campus.KKL, requestBookingCount.build());
-                    ResponseObject wstBookingCount = udpTransfer(Campus.WST, requestBookingCount.build());
-
-                    int totalBookingCount = 0;
-                    if (dvlBookingCount.getStatus())
-                        totalBookingCount += Integer.parseInt(dvlBookingCount.getMessage());
-                    if (kklBookingCount.getStatus())
-                        totalBookingCount += Integer.parseInt(kklBookingCount.getMessage());
-                    if (wstBookingCount.getStatus())
-                        totalBookingCount += Integer.parseInt(wstBookingCount.getMessage());
-
-                    // Increase if total booking count < 3, increase
-                    if (totalBookingCount < 3) {
-                        //Increase booking count
-                        increaseBookingCounter(identifier, date);
-
-                        if (timeslotPosition.getElement().getValue() == null){
-                            databaseLock.lock();
-                            try {
-                                // Create timeslot and add attributes
-                                isBooked = true;
-                                bookingId = this.campus + ":" + UUID.randomUUID();
-                                roomPosition.getElement().getValue().set(timeslotPosition, new Node<>(timeslot, new LinkedPositionalList<>()));
-                                timeslotPosition.getElement().getValue().addFirst(new Node<>("bookingId", bookingId));
-                                timeslotPosition.getElement().getValue().addFirst(new Node<>("studentId", identifier));
-                            } finally {
-                                databaseLock.unlock();
-                            }
-                        }
-                    } else
-                        isOverBookingCountLimit = true;
-                }
+    private CompletableFuture<byte[]> bookRoomOnCampusAsync(String identifier, int roomNumber, String date, String timeslot) {
+        if (BookingQuota.tryToEpochDay(date) == BookingQuota.INVALID_DAY)
+            return CompletableFuture.completedFuture(bookRoomResponse(identifier, roomNumber, date, timeslot, false, "Invalid date (" + date + ")"));
+        Timeslot timeslotEntry = database.getTimeslot(date, roomNumber, timeslot);
+
+        // Check if timeslot exist
+        if (timeslotEntry == null)
+            return CompletableFuture.completedFuture(bookRoomResponse(identifier, roomNumber, date, timeslot, false, "Timeslot (" + timeslot + ") does not exist on (" + date + ")"));
+
+        // Reserve booking count up front so that concurrent bookings from the same student see each other
+        increaseBookingCounter(identifier, date);
+
+        // Check booking count for this week on all campuses
+        RequestObject.Builder requestBookingCount = RequestObject.newBuilder();
+        requestBookingCount.setIdentifier(identifier);
+        requestBookingCount.setDate(date);
+        requestBookingCount.setAction(RequestObjectAction.GetBookingCount.toString());
+        RequestObject bookingCountRequest = requestBookingCount.build();
+        return scatterGather.gatherAsync(remoteCampus -> udpTransferAsync(remoteCampus, bookingCountRequest), ScatterGather.DEFAULT_DEADLINE).thenApply(bookingCounts -> {
+            int totalBookingCount = 0;
+            for (ResponseObject bookingCountResponse: bookingCounts.values()){
+                if (bookingCountResponse.getStatus())
+                    totalBookingCount += Integer.parseInt(bookingCountResponse.getMessage());
             }
-        }
+
+            // Book if total booking count (including this reservation) <= 3, release reserved booking count otherwise
+            if (totalBookingCount > 3) {
+                decreaseBookingCounter(identifier, date);
+                return bookRoomResponse(identifier, roomNumber, date, timeslot, false, "Unable to book room maximum booking limit is reached");
+            }
+            String bookingId = this.campus + ":" + UUID.randomUUID();
+            if (!database.book(timeslotEntry, identifier, bookingId)) {
+                decreaseBookingCounter(identifier, date);
+                return bookRoomResponse(identifier, roomNumber, date, timeslot, false, "Unable to book room timeslot (" + timeslot + ") has already booked");
+            }
+            return bookRoomResponse(identifier, roomNumber, date, timeslot, true, "Timeslot (" + timeslot + ") has been booked | Booking ID: " + bookingId);
+        });
+    }
+
+    /**
+     * Builds and logs book room response object
+     * @param identifier User ID (ie. dvls1234)
+     * @param roomNumber Room number
+     * @param date Date
+     * @param timeslot Timeslot
+     * @param status Status
+     * @param message Message
+     * @return RMI response object
+     */
+    private byte[] bookRoomResponse(String identifier, int roomNumber, String date, String timeslot, boolean status, String message) {
         ResponseObject.Builder responseObject = ResponseObject.newBuilder();
-        if (!timeslotExist){
-            responseObject.setMessage("Timeslot (" + timeslot + ") does not exist on (" + date + ")");
-            responseObject.setStatus(false);
-        } else if (isOverBookingCountLimit) {
-            responseObject.setMessage("Unable to book room maximum booking limit is reached");
-            responseObject.setStatus(false);
-        } else if (isBooked){
-            responseObject.setMessage("Timeslot (" + timeslot + ") has been booked | Booking ID: " + bookingId);
-            responseObject.setStatus(true);
-        } else {
-            responseObject.setMessage("Unable to book room timeslot (" + timeslot + ") has already booked");
-            responseObject.setStatus(false);
-        }
+        responseObject.setMessage(message);
+        responseObject.setStatus(status);
         responseObject.setDateTime(new Date().toString());
         responseObject.setRequestType(RequestObjectAction.CreateRoom.toString());
         responseObject.setRequestParameters("Identifier: " + identifier + " | Room Number: " + roomNumber + " | Date: " + date + " | Timeslot: " + timeslot);
@@ -496,35 +532,16 @@ public class RoomReservationImpl implements RoomReservation {
      * @return RMI response object
      */
     private byte[] cancelBookingOnCampus(String identifier, String bookingId) {
-        boolean bookingExist = false;
-        boolean studentIdMatched = false;
-        for (Position<Entry<String, LinkedPositionalList<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>>>> datePosition : database.positions()) {
-            for (Position<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>> roomPosition : datePosition.getElement().getValue().positions()) {
-                for (Position<Entry<String, LinkedPositionalList<Entry<String, String>>>> timeslotPosition : roomPosition.getElement().getValue().positions()) {
-                    if (timeslotPosition.getElement().getValue() != null){
-                        for (Position<Entry<String, String>> timeslotPropertiesPosition : timeslotPosition.getElement().getValue().positions()) {
-                            if (timeslotPropertiesPosition.getElement().getKey().equals("studentId") && timeslotPropertiesPosition.getElement().getValue().equals(identifier)){
-                                studentIdMatched = true;
-                            }
-                            if (timeslotPropertiesPosition.getElement().getKey().equals("bookingId") && timeslotPropertiesPosition.getElement().getValue().equals(bookingId)){
-                                bookingExist = true;
-                            }
-                        }
-                        if (bookingExist && studentIdMatched){
-                            // Reduce booking count
-                            decreaseBookingCounter(identifier, datePosition.getElement().getKey());
-
-                            databaseLock.lock();
-                            try {
-                                // Cancel booking
-                                roomPosition.getElement().getValue().set(timeslotPosition, new Node<>(timeslotPosition.getElement().getKey(), null));
-                            } finally {
-                                databaseLock.unlock();
-                            }
-                        }
-                    }
-                }
-            }
+        Timeslot timeslot = database.findBooking(bookingId);
+        boolean bookingExist = timeslot != null;
+        boolean studentIdMatched = bookingExist && identifier.equals(timeslot.getStudentId());
+        if (bookingExist && studentIdMatched){
+            // Cancel booking, fails if it was concurrently cancelled or deleted
+            bookingExist = database.release(timeslot, bookingId);
+
+            // Reduce booking count
+            if (bookingExist)
+                decreaseBookingCounter(identifier, timeslot.getDate());
         }
         ResponseObject.Builder responseObject = ResponseObject.newBuilder();
         if (!bookingExist){
@@ -550,47 +567,7 @@ public class RoomReservationImpl implements RoomReservation {
      * @param date Date
      */
     public void increaseBookingCounter(String identifier, String date) {
-        try {
-            Date tempDate = new SimpleDateFormat("yyyy-MM-dd").parse(date);
-            boolean foundIdentifier = false;
-            boolean foundDate = false;
-            for (Position<Entry<String, LinkedPositionalList<Entry<Date, Integer>>>> bookingIdentifier: bookingCount.positions()){
-                if (bookingIdentifier.getElement().getKey().equals(identifier)) {
-                    foundIdentifier = true;
-                    for (Position<Entry<Date, Integer>> bookingDate: bookingIdentifier.getElement().getValue().positions()){
-                        bookingLock.lock();
-                        try {
-                            if (bookingDate.getElement().getKey().equals(tempDate)){
-                                foundDate = true;
-                                // Increase count
-                                bookingIdentifier.getElement().getValue().set(bookingDate, new Node<>(tempDate, bookingDate.getElement().getValue() + 1));
-                            }
-                        } finally {
-                            bookingLock.unlock();
-                        }
-                    }
-                    bookingLock.lock();
-                    try {
-                        if (!foundDate){
-                            bookingIdentifier.getElement().getValue().addFirst(new Node<>(tempDate, 1));
-                        }
-                    } finally {
-                        bookingLock.unlock();
-                    }
-                }
-            }
-            bookingLock.lock();
-            try {
-                if (!foundIdentifier) {
-                    bookingCount.addFirst(new Node<>(identifier, new LinkedPositionalList<>(new Node<>(tempDate, 1))));
-                }
-            } finally {
-                bookingLock.unlock();
-            }
-
-        } catch (ParseException e) {
-            e.printStackTrace();
-        }
+        bookingCount.increment(identifier, BookingQuota.toEpochDay(date));
     }
 
     /**
@@ -599,125 +576,157 @@ public class RoomReservationImpl implements RoomReservation {
      * @param date Date
      */
     public void decreaseBookingCounter(String identifier, String date) {
-        try {
-            Date tempDate = new SimpleDateFormat("yyyy-MM-dd").parse(date);
-            for (Position<Entry<String, LinkedPositionalList<Entry<Date, Integer>>>> bookingIdentifier: bookingCount.positions()){
-                if (bookingIdentifier.getElement().getKey().equals(identifier)) {
-                    for (Position<Entry<Date, Integer>> bookingDate: bookingIdentifier.getElement().getValue().positions()){
-                        bookingLock.lock();
-                        try {
-                            if (bookingDate.getElement().getKey().equals(tempDate)){
-                                // Decrease count
-                                bookingIdentifier.getElement().getValue().set(bookingDate, new Node<>(tempDate, bookingDate.getElement().getValue() - 1));
-                            }
-                        } finally {
-                            bookingLock.unlock();
-                        }
-                    }
-                }
-            }
-        } catch (ParseException ignored) {}
+        bookingCount.decrement(identifier, BookingQuota.toEpochDay(date));
     }
 
     /**
-     * Performs a UDP request on a specific campus by first performing a looking with the central repository
+     * Gets the circuit breaker guarding requests to a campus, for monitoring
+     * @param campus Campus name (dvl, wst, kkl)
+     * @return Circuit breaker
+     */
+    public CircuitBreaker getCircuitBreaker(Campus campus){
+        return circuitBreakers.get(campus);
+    }
+
+    /**
+     * Gets the round-trip time estimator setting the timeouts of requests to a campus, for monitoring
+     * @param campus Campus name (dvl, wst, kkl)
+     * @return Round-trip time estimator
+     */
+    public RttEstimator getRttEstimator(Campus campus){
+        return rttEstimators.get(campus);
+    }
+
+    /**
+     * Performs a UDP request on a specific campus by first performing a looking with the central repository.
+     * Fails right away while the circuit breaker of the campus is open. No thread is held while waiting
+     * for the lookup or the reply, the future is completed by the lookup pool or the UDP client.
      * @param campus Campus name (dvl, wst, kkl)
      * @param requestObject Request Object
-     * @return RMI response object
+     * @return Future completed with the RMI response object, never completed exceptionally
      */
-    private ResponseObject udpTransfer(Campus campus, RequestObject requestObject){
-        DatagramSocket datagramSocket = null;
-        try {
-            datagramSocket = new DatagramSocket();
-            datagramSocket.setSoTimeout(1000); // Set timeout
-            InetAddress host = InetAddress.getLocalHost();
-
-            CentralRepository centralRepository = CentralRepositoryUtils.lookupServer(campus.toString(), "udp");
-            if (centralRepository != null && centralRepository.getStatus()){
-                DatagramPacket request = new DatagramPacket(requestObject.toByteArray(), requestObject.toByteArray().length, host, centralRepository.getPort());
-                datagramSocket.send(request);
-                byte[] buffer = new byte[1000];
-                DatagramPacket reply = new DatagramPacket(buffer, buffer.length);
-                datagramSocket.receive(reply);
-                return ResponseObject.parseFrom(trim(reply));
-            } else {
+    private CompletableFuture<ResponseObject> udpTransferAsync(Campus campus, RequestObject requestObject){
+        CircuitBreaker circuitBreaker = circuitBreakers.get(campus);
+        if (!circuitBreaker.allowRequest())
+            return CompletableFuture.completedFuture(failedResponse("Remote server unavailable (circuit open)"));
+        return CentralRepositoryUtils.lookupServerAsync(campus.toString(), "udp").thenCompose(centralRepository -> {
+            if (centralRepository == null || !centralRepository.getStatus()){
+                circuitBreaker.recordFailure();
                 System.out.println(ANSI_RED + "Unable to get server details from the central repository" + RESET);
-                ResponseObject.Builder responseObject = ResponseObject.newBuilder();
-                responseObject.setDateTime(new Date().toString());
-                responseObject.setRequestType("");
-                responseObject.setRequestParameters("");
-                responseObject.setStatus(false);
-                responseObject.setMessage("Unable to get server details from the central repository");
-                return responseObject.build();
+                return CompletableFuture.completedFuture(failedResponse("Unable to get server details from the central repository"));
             }
+            return udpTransferAsync(campus, new InetSocketAddress(host, centralRepository.getPort()), requestObject);
+        });
+    }
+
+    /**
+     * Performs a UDP request on a campus server once its address is known
+     * @param campus Campus name (dvl, wst, kkl)
+     * @param address Campus server address
+     * @param requestObject Request Object
+     * @return Future completed with the RMI response object, never completed exceptionally
+     */
+    private CompletableFuture<ResponseObject> udpTransferAsync(Campus campus, InetSocketAddress address, RequestObject requestObject){
+        CircuitBreaker circuitBreaker = circuitBreakers.get(campus);
+        RttEstimator rttEstimator = rttEstimators.get(campus);
+        CompletableFuture<ResponseObject> response;
+        switch (RequestObjectAction.valueOf(requestObject.getAction())){
+            case GetAvailableTimeslots:
+            case GetBookingCount:
+                // Read-only lookups to the same campus are coalesced into batches
+                response = requestCoalescer.submit(address, requestObject, rttEstimator);
+                break;
+            default:
+                response = udpClient.sendAsync(address, UdpFrame.SINGLE, requestObject.toByteArray(), rttEstimator).thenApply(reply -> {
+                    try {
+                        return ResponseObject.parseFrom(reply);
+                    } catch (InvalidProtocolBufferException e){
+                        throw new CompletionException(e);
+                    }
+                });
+                break;
         }
-        catch (SocketException e){
-            System.out.println(ANSI_RED + "Socket: " + e.getMessage() + RESET);
-        } catch (IOException e){
-            System.out.println(ANSI_RED + "IO: " + e.getMessage() + RESET);
-        } finally {
-            if (datagramSocket != null)
-                datagramSocket.close();
-        }
+        return response.handle((responseObject, throwable) -> {
+            if (throwable == null){
+                circuitBreaker.recordSuccess();
+                return responseObject;
+            }
+            circuitBreaker.recordFailure();
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if (cause instanceof SocketTimeoutException)
+                System.out.println(ANSI_RED + "Socket: " + cause.getMessage() + RESET);
+            else
+                System.out.println(ANSI_RED + "IO: " + cause.getMessage() + RESET);
+            CentralRepositoryUtils.invalidate(campus.toString(), "udp");
+            return failedResponse("Unable to connect to remote server");
+        });
+    }
+
+    /**
+     * Builds response used when a remote campus could not be reached
+     * @param message Message
+     * @return Failed response object
+     */
+    private static ResponseObject failedResponse(String message){
         ResponseObject.Builder responseObject = ResponseObject.newBuilder();
         responseObject.setDateTime(new Date().toString());
         responseObject.setRequestType("");
         responseObject.setRequestParameters("");
         responseObject.setStatus(false);
-        responseObject.setMessage("Unable to connect to remote server");
+        responseObject.setMessage(message);
         return responseObject.build();
     }
 
     /**
-     * Trims byte array to strip 0s filling up unused elements
-     * @param packet Datagram packet
-     * @return Trimmed byte array
+     * Restores the campus state from its latest snapshot and the write-ahead log records after it,
+     * rebuilds the booking counts from the recovered bookings and starts taking snapshots. The log is
+     * closed and snapshots stopped when the server shuts down.
+     * Sample data is only generated for a campus without a snapshot or log.
+     * @throws IOException Exception
      */
-    private static byte[] trim(DatagramPacket packet) {
-        byte[] data = new byte[packet.getLength()];
-        System.arraycopy(packet.getData(), packet.getOffset(), data, 0, packet.getLength());
-        return data;
+    private void recoverDatabase() throws IOException {
+        long start = System.nanoTime();
+        writeAheadLog = new WriteAheadLog(this.campus.toString());
+        snapshotter = new Snapshotter(this.campus.toString(), database, writeAheadLog);
+        long snapshotLsn = snapshotter.load();
+        long replayed = database.recover(writeAheadLog, snapshotLsn);
+        for (Timeslot timeslot: database.listBookings())
+            increaseBookingCounter(timeslot.getStudentId(), timeslot.getDate());
+        if (snapshotLsn == 0 && replayed == 0)
+            this.generateSampleData();
+        else
+            System.out.printf("Recovered snapshot at LSN %d and %d mutations in %.1fms%n", snapshotLsn, replayed, (System.nanoTime() - start) / 1e6);
+        snapshotter.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::closeDatabase, "database-shutdown-" + this.campus));
     }
 
     /**
-     * Searches database to find position at specific date
-     * @param date Date
-     * @return Date position in database
+     * Stops taking snapshots and closes the write-ahead log, only the first call has an effect
      */
-    private Position<Entry<String, LinkedPositionalList<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>>>> findDate(String date){
-        for (Position<Entry<String, LinkedPositionalList<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>>>> dateNext : database.positions()) {
-            if (dateNext.getElement().getKey().equals(date))
-                return dateNext;
+    public void closeDatabase(){
+        if (!databaseClosed.compareAndSet(false, true))
+            return;
+        snapshotter.close();
+        try {
+            writeAheadLog.close();
+        } catch (IOException | UncheckedIOException e){
+            System.out.println(ANSI_RED + "Write-ahead log: " + e.getMessage() + RESET);
         }
-        return null;
     }
 
     /**
-     * Searches database to find position at specific room number
-     * @param roomNumber Campus room number
-     * @param datePosition Date position object
-     * @return Room position in database
+     * @return First mutation that could not be made durable, null if there is none
      */
-    private Position<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>> findRoom(int roomNumber, Position<Entry<String, LinkedPositionalList<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>>>> datePosition){
-        for (Position<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>> roomNext : datePosition.getElement().getValue().positions()) {
-            if (roomNext.getElement().getKey().equals(roomNumber))
-                return roomNext;
-        }
-        return null;
+    public DurabilityException getDatabaseFailure(){
+        return database.getFailure();
     }
 
     /**
-     * Searches database to find position at specific timeslot
-     * @param timeslot Timeslot
-     * @param room Room position object
-     * @return Timeslot position in database
+     * Gets the snapshotter of the campus state, for monitoring
+     * @return Snapshotter
      */
-    private Position<Entry<String, LinkedPositionalList<Entry<String, String>>>> findTimeslot(String timeslot, Position<Entry<Integer, LinkedPositionalList<Entry<String, LinkedPositionalList<Entry<String, String>>>>>> room){
-        for (Position<Entry<String, LinkedPositionalList<Entry<String, String>>>> timeslotNext : room.getElement().getValue().positions()) {
-            if (timeslotNext.getElement().getKey().equals(timeslot))
-                return timeslotNext;
-        }
-        return null;
+    public Snapshotter getSnapshotter(){
+        return snapshotter;
     }
 
     /**
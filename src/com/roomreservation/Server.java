@@ -1,17 +1,38 @@
 package com.roomreservation;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
 import com.roomreservation.common.Campus;
 import com.roomreservation.common.CentralRepositoryUtils;
+import com.roomreservation.common.EndpointExecutor;
+import com.roomreservation.common.ReplyCache;
+import com.roomreservation.common.RequestProcessor;
+import com.roomreservation.common.UdpFrame;
 import com.roomreservation.protobuf.protos.*;
+import com.roomreservation.store.DurabilityException;
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 
 import javax.xml.ws.Endpoint;
 import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.net.SocketException;
-import java.text.ParseException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -20,6 +41,12 @@ import static com.roomreservation.common.ConsoleColours.*;
 public class Server {
 
     private static RoomReservationImpl roomReservationImpl;
+    private static final RequestProcessor requestProcessor = new RequestProcessor("udp");
+    private static final ReplyCache replyCache = new ReplyCache();
+    private static EndpointExecutor endpointExecutor;
+    private static final AtomicBoolean stopping = new AtomicBoolean();
+    private static volatile HttpServer httpServer;
+    private static volatile Selector udpSelector;
 
     public static void main(String[] args) {
         try {
@@ -57,7 +84,8 @@ public class Server {
      * @param campus Campus name (dvl, wst, kkl)
      */
     private static void startUDPServer(Campus campus){
-        DatagramSocket datagramSocket = null;
+        DatagramChannel datagramChannel = null;
+        Selector selector = null;
         try {
             // Lookup server to see if it is already registered
             int remotePort;
@@ -75,44 +103,76 @@ public class Server {
                     System.exit(1);
                 }
             }
-            datagramSocket = new DatagramSocket(remotePort);
+            datagramChannel = DatagramChannel.open();
+            datagramChannel.bind(new InetSocketAddress(remotePort));
+            datagramChannel.configureBlocking(false);
+            selector = Selector.open();
+            datagramChannel.register(selector, SelectionKey.OP_READ);
+            udpSelector = selector;
             System.out.println("UDP Server ready (port: " + remotePort + ")");
-            byte[] buffer = new byte[1000];
-
-            while (true){
-                DatagramPacket datagramPacket = new DatagramPacket(buffer, buffer.length);
-                datagramSocket.receive(datagramPacket);
-
-                // Launch a new thread for each request
-                DatagramSocket finalDatagramSocket = datagramSocket;
-                Thread thread = new Thread(() -> {
-                    try {
-                        handleUDPRequest(finalDatagramSocket, datagramPacket);
-                    } catch (IOException | ParseException e) {
-                        System.out.println(ANSI_RED + "Exception: " + e.getMessage() + RESET);
+
+            // Requests are decoded before dispatchUDPRequest returns, so a single receive buffer is reused
+            ByteBuffer buffer = ByteBuffer.allocateDirect(UdpFrame.MAX_DATAGRAM_SIZE);
+            while (!stopping.get()){
+                selector.select();
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()){
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    if (!key.isReadable())
+                        continue;
+
+                    // Drain every datagram waiting on the channel
+                    while (true){
+                        buffer.clear();
+                        SocketAddress address = datagramChannel.receive(buffer);
+                        if (address == null)
+                            break;
+                        buffer.flip();
+                        dispatchUDPRequest(datagramChannel, address, buffer);
                     }
-                });
-                thread.start();
+                }
             }
         }
         catch (SocketException e){
+            if (stopping.get())
+                return;
             System.out.println("Socket: " + e.getMessage());
             System.exit(1);
         }
         catch (IOException e){
+            if (stopping.get())
+                return;
             System.out.println("IO Exception: " + e.getMessage());
             System.exit(1);
         }
         catch (Exception e) {
+            if (stopping.get())
+                return;
             System.out.println("Exception: " + e.getMessage());
             System.exit(1);
         }
         finally {
-            if (datagramSocket != null)
-                datagramSocket.close();
+            try {
+                if (selector != null)
+                    selector.close();
+                if (datagramChannel != null)
+                    datagramChannel.close();
+            } catch (IOException ignored) {}
         }
     }
 
+    /**
+     * Starts web services on a dedicated executor. Keep-alive settings of the built-in HTTP server are
+     * read once when the first server is created, so they are set before creating it. Student operations
+     * are answered by AsyncSoapFilter without holding a worker while the remote campuses are queried.
+     *
+     * Configured with the following system properties (see EndpointExecutor for the pool settings):
+     *   roomreservation.http.keepAlive           Seconds an idle keep-alive connection is kept (default: 30)
+     *   roomreservation.http.maxIdleConnections  Maximum number of idle keep-alive connections (default: 200)
+     * @param campus Campus name (dvl, wst, kkl)
+     * @throws IOException Exception
+     */
     private static void startWebServices(Campus campus) throws IOException {
         // Lookup server to see if it is already registered
         int remotePort;
@@ -132,65 +192,286 @@ public class Server {
                 System.exit(1);
             }
         }
+        if (System.getProperty("sun.net.httpserver.idleInterval") == null)
+            System.setProperty("sun.net.httpserver.idleInterval", Long.toString(Long.getLong("roomreservation.http.keepAlive", 30)));
+        if (System.getProperty("sun.net.httpserver.maxIdleConnections") == null)
+            System.setProperty("sun.net.httpserver.maxIdleConnections", Integer.toString(Integer.getInteger("roomreservation.http.maxIdleConnections", 200)));
+        if (System.getProperty("sun.net.httpserver.nodelay") == null)
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+
         roomReservationImpl = new RoomReservationImpl(campus);
+        endpointExecutor = new EndpointExecutor("http");
+        HttpServer server = HttpServer.create(new InetSocketAddress(host, remotePort), 0);
+        server.setExecutor(endpointExecutor);
+        HttpContext httpContext = server.createContext(path);
+        // JAX-WS answers a failed commit with a fault, the store keeps the failure for the server to stop
+        httpContext.getFilters().add(new Filter() {
+            @Override
+            public void doFilter(HttpExchange exchange, Chain chain) throws IOException {
+                chain.doFilter(exchange);
+                DurabilityException failure = roomReservationImpl.getDatabaseFailure();
+                if (failure != null)
+                    handleFailure(failure);
+            }
+
+            @Override
+            public String description(){
+                return "Stops the server once a mutation could not be made durable";
+            }
+        });
+        // Student operations are answered by the filter once their future completes, the rest by JAX-WS
+        httpContext.getFilters().add(new AsyncSoapFilter(roomReservationImpl, endpointExecutor, Server::handleFailure));
         Endpoint endpoint = Endpoint.create(roomReservationImpl);
-        endpoint.publish("http://" + host + ":" + remotePort + path);
+        endpoint.publish(httpContext);
+        server.start();
+        httpServer = server;
         System.out.println("Web Server ready (port: " + remotePort + ")");
     }
 
     /**
-     * Thread method to handle incoming UDP request
-     * @param datagramSocket Datagram Socket
-     * @param datagramPacket Datagram Packet
+     * Stops the server once a mutation could not be made durable: the web and UDP servers stop accepting
+     * requests, the write-ahead log is closed and the process exits. Other failures are left to the caller.
+     * @param throwable Failure of a request
+     */
+    private static void handleFailure(Throwable throwable){
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        if (!(cause instanceof DurabilityException) || !stopping.compareAndSet(false, true))
+            return;
+        System.out.println(ANSI_RED + "Write-ahead log: " + cause.getMessage() + ", stopping server" + RESET);
+        // Stopped on its own thread, the failed request may hold a thread the servers wait for
+        new Thread(() -> {
+            HttpServer server = httpServer;
+            if (server != null)
+                server.stop(0);
+            Selector selector = udpSelector;
+            if (selector != null)
+                selector.wakeup();
+            roomReservationImpl.closeDatabase();
+            System.exit(1);
+        }, "server-stop").start();
+    }
+
+    /**
+     * Decodes incoming UDP request or batch of requests straight from the receive buffer. Lookups that
+     * only read the in-memory indexes are answered on the selector thread, other requests are started
+     * on the worker pool and answered when their future completes, so a booking waiting on other
+     * campuses does not hold a worker. Replies to requests that change state are kept in the reply cache, so a
+     * retransmitted request is answered again without being performed twice.
+     * @param datagramChannel Datagram channel
+     * @param address Client address
+     * @param buffer Receive buffer, only valid until this method returns
+     * @throws IOException Exception
+     */
+    private static void dispatchUDPRequest(DatagramChannel datagramChannel, SocketAddress address, ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < UdpFrame.HEADER_SIZE)
+            return;
+        long requestId = buffer.getLong();
+        byte type = buffer.get();
+        buffer.getShort();
+        if (buffer.getShort() != 1) // Requests always fit in a single datagram
+            return;
+        List<RequestObject> requestObjects;
+        boolean readOnly = true;
+        try {
+            if (type == UdpFrame.BATCH)
+                requestObjects = RequestBatch.parseFrom(CodedInputStream.newInstance(buffer)).getRequestsList();
+            else
+                requestObjects = Collections.singletonList(RequestObject.parseFrom(CodedInputStream.newInstance(buffer)));
+            for (RequestObject requestObject: requestObjects){
+                RequestObjectAction action = RequestObjectAction.valueOf(requestObject.getAction());
+                if (action != RequestObjectAction.GetAvailableTimeslots && action != RequestObjectAction.GetBookingCount && action != RequestObjectAction.ListAvailableTimeslots)
+                    readOnly = false;
+            }
+        } catch (IOException | IllegalArgumentException e){
+            System.out.println(ANSI_RED + "Exception: " + e.getMessage() + RESET);
+            return;
+        }
+
+        if (readOnly) {
+            handleUDPRequests(type, requestObjects).whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    System.out.println(ANSI_RED + "Exception: " + throwable.getMessage() + RESET);
+                    handleFailure(throwable);
+                } else
+                    sendUDPResponse(datagramChannel, address, requestId, type, response);
+            });
+        } else {
+            ReplyCache.Reply earlierReply = replyCache.begin(address, requestId);
+            if (earlierReply != null){
+                // Retransmission, answer with the original reply or drop it if still being handled
+                if (earlierReply.getResponse() != null)
+                    sendUDPResponse(datagramChannel, address, requestId, type, earlierReply.getResponse());
+                return;
+            }
+            boolean accepted = requestProcessor.submit(() -> handleUDPRequests(type, requestObjects).whenComplete((response, throwable) -> {
+                if (throwable != null){
+                    replyCache.abort(address, requestId);
+                    System.out.println(ANSI_RED + "Exception: " + throwable.getMessage() + RESET);
+                    handleFailure(throwable);
+                    return;
+                }
+                replyCache.complete(address, requestId, response);
+                sendUDPResponse(datagramChannel, address, requestId, type, response);
+            }));
+            if (!accepted){
+                replyCache.abort(address, requestId);
+                rejectUDPRequest(datagramChannel, address, requestId, type, requestObjects.size());
+            }
+        }
+    }
+
+    /**
+     * Starts the actions of an incoming UDP request or batch of requests in one pass
+     * @param type Frame type (SINGLE, BATCH)
+     * @param requestObjects Request objects
+     * @return Future completed with the encoded response object, or encoded ResponseBatch for a batch
+     */
+    private static CompletableFuture<byte[]> handleUDPRequests(byte type, List<RequestObject> requestObjects) {
+        if (type != UdpFrame.BATCH)
+            return handleUDPRequest(requestObjects.get(0));
+        ArrayList<CompletableFuture<byte[]>> responses = new ArrayList<>(requestObjects.size());
+        for (RequestObject requestObject: requestObjects)
+            responses.add(handleUDPRequest(requestObject));
+        return CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            ArrayList<byte[]> encodedResponses = new ArrayList<>(responses.size());
+            for (CompletableFuture<byte[]> response: responses)
+                encodedResponses.add(response.join());
+            try {
+                return encodeBatch(encodedResponses);
+            } catch (IOException e){
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Encodes already serialized response objects as a ResponseBatch. Writing each response as a
+     * length-delimited field 1 is the wire format of the repeated responses field, so the responses
+     * do not need to be parsed again.
+     * @param responses Encoded response objects
+     * @return Encoded ResponseBatch
      * @throws IOException Exception
-     * @throws ParseException Exception
      */
-    private static void handleUDPRequest(DatagramSocket datagramSocket, DatagramPacket datagramPacket) throws IOException, ParseException {
-        // Decode request object
-        RequestObject requestObject = RequestObject.parseFrom(CentralRepositoryUtils.trim(datagramPacket));
+    private static byte[] encodeBatch(List<byte[]> responses) throws IOException {
+        int size = 0;
+        for (byte[] response: responses)
+            size += CodedOutputStream.computeByteArraySize(ResponseBatch.RESPONSES_FIELD_NUMBER, response);
+        byte[] batch = new byte[size];
+        CodedOutputStream output = CodedOutputStream.newInstance(batch);
+        for (byte[] response: responses)
+            output.writeByteArray(ResponseBatch.RESPONSES_FIELD_NUMBER, response);
+        output.checkNoSpaceLeft();
+        return batch;
+    }
 
+    /**
+     * Starts the action of an incoming UDP request
+     * @param requestObject Request object
+     * @return Future completed with the encoded response object
+     */
+    private static CompletableFuture<byte[]> handleUDPRequest(RequestObject requestObject) {
         // Build response object
         byte[] response;
         ResponseObject.Builder tempObject;
 
         // Perform action
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-        switch (RequestObjectAction.valueOf(requestObject.getAction())){
-            case GetAvailableTimeslots:
-                response = roomReservationImpl.getAvailableTimeSlotOnCampus(requestObject.getDate());
-                break;
-            case BookRoom:
-                response = roomReservationImpl.bookRoom(requestObject.getIdentifier(), requestObject.getCampusName(), requestObject.getRoomNumber(), requestObject.getDate(), requestObject.getTimeslot());
-                break;
-            case CancelBooking:
-                response = roomReservationImpl.cancelBooking(requestObject.getIdentifier(), requestObject.getBookingId());
-                break;
-            case GetBookingCount:
-                response = roomReservationImpl.getBookingCount(requestObject.getIdentifier(), dateFormat.parse(requestObject.getDate()));
-                break;
-            case CreateRoom:
-                tempObject = ResponseObject.newBuilder();
-                tempObject.setMessage("Create Room not supported through UDP");
-                tempObject.setDateTime(dateFormat.format(new Date()));
-                tempObject.setRequestType(RequestObjectAction.CreateRoom.toString());
-                tempObject.setRequestParameters("None");
-                tempObject.setStatus(false);
-                response = tempObject.build().toByteArray();
-                break;
-            case DeleteRoom:
-            default:
-                tempObject = ResponseObject.newBuilder();
-                tempObject.setMessage("Delete Room not supported through UDP");
-                tempObject.setDateTime(dateFormat.format(new Date()));
-                tempObject.setRequestType(RequestObjectAction.DeleteRoom.toString());
-                tempObject.setRequestParameters("None");
-                tempObject.setStatus(false);
-                response = tempObject.build().toByteArray();
-                break;
+        try {
+            switch (RequestObjectAction.valueOf(requestObject.getAction())){
+                case GetAvailableTimeslots:
+                    response = roomReservationImpl.getAvailableTimeSlotOnCampus(requestObject.getDate());
+                    break;
+                case BookRoom:
+                    return roomReservationImpl.bookRoomAsync(requestObject.getIdentifier(), requestObject.getCampusName(), requestObject.getRoomNumber(), requestObject.getDate(), requestObject.getTimeslot());
+                case CancelBooking:
+                    return roomReservationImpl.cancelBookingAsync(requestObject.getIdentifier(), requestObject.getBookingId());
+                case GetBookingCount:
+                    response = roomReservationImpl.getBookingCount(requestObject.getIdentifier(), requestObject.getDate());
+                    break;
+                case ListAvailableTimeslots:
+                    response = roomReservationImpl.listAvailableTimeSlotOnCampus(requestObject.getDate());
+                    break;
+                case CreateRoom:
+                    tempObject = ResponseObject.newBuilder();
+                    tempObject.setMessage("Create Room not supported through UDP");
+                    tempObject.setDateTime(dateFormat.format(new Date()));
+                    tempObject.setRequestType(RequestObjectAction.CreateRoom.toString());
+                    tempObject.setRequestParameters("None");
+                    tempObject.setStatus(false);
+                    response = tempObject.build().toByteArray();
+                    break;
+                case DeleteRoom:
+                default:
+                    tempObject = ResponseObject.newBuilder();
+                    tempObject.setMessage("Delete Room not supported through UDP");
+                    tempObject.setDateTime(dateFormat.format(new Date()));
+                    tempObject.setRequestType(RequestObjectAction.DeleteRoom.toString());
+                    tempObject.setRequestParameters("None");
+                    tempObject.setStatus(false);
+                    response = tempObject.build().toByteArray();
+                    break;
+            }
+        } catch (RuntimeException e){
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.completedFuture(response);
+    }
+
+    /**
+     * Sends encoded response back to the client, split into fragments if it does not fit in a single datagram
+     * @param datagramChannel Datagram channel
+     * @param address Client address
+     * @param requestId Request id to echo
+     * @param type Frame type to echo (SINGLE, BATCH)
+     * @param response Encoded response
+     */
+    private static void sendUDPResponse(DatagramChannel datagramChannel, SocketAddress address, long requestId, byte type, byte[] response) {
+        try {
+            for (ByteBuffer fragment: UdpFrame.encodeFragments(requestId, type, response))
+                datagramChannel.send(fragment, address);
+        } catch (IOException e){
+            System.out.println(ANSI_RED + "Exception: " + e.getMessage() + RESET);
         }
-        // Encode response object
-        DatagramPacket reply = new DatagramPacket(response, response.length, datagramPacket.getAddress(), datagramPacket.getPort());
-        datagramSocket.send(reply);
+    }
+
+    /**
+     * Sends load-shedding response for a request that could not be queued
+     * @param datagramChannel Datagram channel
+     * @param address Client address
+     * @param requestId Request id to echo
+     * @param type Frame type to echo (SINGLE, BATCH)
+     * @param count Number of requests in the frame
+     * @throws IOException Exception
+     */
+    private static void rejectUDPRequest(DatagramChannel datagramChannel, SocketAddress address, long requestId, byte type, int count) throws IOException {
+        ResponseObject.Builder responseObject = ResponseObject.newBuilder();
+        responseObject.setMessage("Server busy, request rejected");
+        responseObject.setDateTime(new SimpleDateFormat("yyyy-MM-dd").format(new Date()));
+        responseObject.setRequestType("");
+        responseObject.setRequestParameters("None");
+        responseObject.setStatus(false);
+        byte[] response = responseObject.build().toByteArray();
+        if (type == UdpFrame.BATCH)
+            response = encodeBatch(Collections.nCopies(count, response));
+        sendUDPResponse(datagramChannel, address, requestId, type, response);
+        if (requestProcessor.getRejectedCount() % 100 == 1)
+            System.out.println(ANSI_RED + "Rejecting UDP requests | " + requestProcessor + RESET);
+    }
+
+    /**
+     * Gets UDP request processing metrics
+     * @return Request processor
+     */
+    public static RequestProcessor getRequestProcessor(){
+        return requestProcessor;
+    }
+
+    /**
+     * Gets web service concurrency metrics
+     * @return Endpoint executor, null until web services are started
+     */
+    public static EndpointExecutor getEndpointExecutor(){
+        return endpointExecutor;
     }
 
     /**
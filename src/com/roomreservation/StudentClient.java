@@ -82,11 +82,12 @@ public class StudentClient {
         System.out.println("2. Get available time slots");
         System.out.println("3. Cancel booking");
         System.out.println("4. Change reservation");
-        System.out.println("5. Quit");
+        System.out.println("5. List available time slots");
+        System.out.println("6. Quit");
         System.out.print("Selection: ");
         action = bufferedReader.readLine().trim();
-        while (!action.equals("1") && !action.equals("2") && !action.equals("3") && !action.equals("4") && !action.equals("5")) {
-            System.out.println(ANSI_RED + "Invalid selection! Must select a valid action (1, 2, 3, 4, 5): " + RESET);
+        while (!action.equals("1") && !action.equals("2") && !action.equals("3") && !action.equals("4") && !action.equals("5") && !action.equals("6")) {
+            System.out.println(ANSI_RED + "Invalid selection! Must select a valid action (1, 2, 3, 4, 5, 6): " + RESET);
             action = bufferedReader.readLine().trim();
         }
         return action;
@@ -128,6 +129,11 @@ public class StudentClient {
                                 Parsing.getTimeslot(bufferedReader)));
                         break;
                     case "5":
+                        System.out.println("\nLIST AVAILABLE TIME SLOTS");
+                        System.out.println("-----------");
+                        response = ResponseObject.parseFrom(roomReservation.listAvailableTimeSlot(Parsing.getDate(bufferedReader)));
+                        break;
+                    case "6":
                     default:
                         System.out.println("Goodbye!");
                         System.exit(0);
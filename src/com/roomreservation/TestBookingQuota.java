@@ -0,0 +1,65 @@
+package com.roomreservation;
+
+import com.roomreservation.store.BookingQuota;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class TestBookingQuota {
+    private static final String STUDENT = "dvls9999";
+    private static boolean passed = true;
+
+    public static void main(String[] args) {
+        outOfOrderBookings();
+        shuffledRebuild();
+        if (!passed){
+            System.out.println("Booking quota tests failed");
+            System.exit(1);
+        }
+        System.out.println("Booking quota tests passed");
+    }
+
+    /**
+     * A booking on a later date must not drop the counts an earlier window still needs
+     */
+    private static void outOfOrderBookings(){
+        BookingQuota bookingQuota = new BookingQuota();
+        book(bookingQuota, "2021-01-05");
+        book(bookingQuota, "2021-01-05");
+        book(bookingQuota, "2021-01-12");
+        book(bookingQuota, "2021-01-06");
+        int sum = bookingQuota.windowSum(STUDENT, BookingQuota.toEpochDay("2021-01-06"));
+        check("Out of order: week ending 2021-01-06 has " + sum + " bookings", sum == 3);
+        // Same check as bookRoomAsync: the reserved booking is counted before comparing with the limit
+        book(bookingQuota, "2021-01-06");
+        sum = bookingQuota.windowSum(STUDENT, BookingQuota.toEpochDay("2021-01-06"));
+        check("Out of order: 4th booking in the week ending 2021-01-06 rejected", sum > 3);
+    }
+
+    /**
+     * Counts rebuilt after recovery come from the bookings in no particular date order
+     */
+    private static void shuffledRebuild(){
+        List<String> dates = new ArrayList<>(Arrays.asList("2021-01-02", "2021-01-02", "2021-01-10", "2021-01-20", "2021-01-14", "2021-01-08"));
+        Collections.shuffle(dates, new Random(4));
+        BookingQuota bookingQuota = new BookingQuota();
+        for (String date: dates)
+            book(bookingQuota, date);
+        int sum = bookingQuota.windowSum(STUDENT, BookingQuota.toEpochDay("2021-01-02"));
+        check("Shuffled rebuild: week ending 2021-01-02 has " + sum + " bookings", sum == 2);
+        sum = bookingQuota.windowSum(STUDENT, BookingQuota.toEpochDay("2021-01-14"));
+        check("Shuffled rebuild: week ending 2021-01-14 has " + sum + " bookings", sum == 3);
+    }
+
+    private static void book(BookingQuota bookingQuota, String date){
+        bookingQuota.increment(STUDENT, BookingQuota.toEpochDay(date));
+    }
+
+    private static void check(String message, boolean result){
+        System.out.println(message + " (" + result + ")");
+        passed &= result;
+    }
+}
@@ -0,0 +1,170 @@
+package com.roomreservation;
+
+import com.roomreservation.store.RoomStore;
+import com.roomreservation.store.Snapshotter;
+import com.roomreservation.store.Timeslot;
+import com.roomreservation.store.WriteAheadLog;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TestRecovery {
+    private static final String[] DATES = {"2021-01-01", "2021-01-02"};
+    private static final List<String> TIMESLOTS = Arrays.asList("9:00-9:30", "9:30-10:00", "10:00-10:30");
+    private static boolean passed = true;
+
+    public static void main(String[] args) throws IOException {
+        File directory = Files.createTempDirectory("roomreservation").toFile();
+        tornRecord(new File(directory, "torn.wal"));
+        corruptedRecord(new File(directory, "corrupted.wal"));
+        snapshotAndTail(new File(directory, "snapshot"));
+        if (!passed){
+            System.out.println("Recovery tests failed, logs kept in " + directory);
+            System.exit(1);
+        }
+        System.out.println("Recovery tests passed");
+    }
+
+    /**
+     * A crash while a record is written leaves a partial frame at the end of the log, recovery
+     * replays every whole record, truncates the partial one and keeps numbering after the last LSN
+     */
+    private static void tornRecord(File file) throws IOException {
+        WriteAheadLog writeAheadLog = new WriteAheadLog(file, false);
+        RoomStore roomStore = new RoomStore();
+        roomStore.recover(writeAheadLog, 0);
+        populate(roomStore);
+        long lastLsn = writeAheadLog.getAppendedLsn();
+        List<String> expected = describe(roomStore);
+        writeAheadLog.close();
+        long intactSize = file.length();
+
+        // Length and checksum of a 64 byte record followed by only part of it
+        try (RandomAccessFile output = new RandomAccessFile(file, "rw")){
+            output.seek(intactSize);
+            output.writeInt(64);
+            output.writeInt(0x12345678);
+            output.write(new byte[10]);
+        }
+
+        WriteAheadLog recoveredLog = new WriteAheadLog(file, false);
+        RoomStore recoveredStore = new RoomStore();
+        long replayed = recoveredStore.recover(recoveredLog, 0);
+        check("Torn record: replayed " + replayed + " of " + lastLsn + " mutations", replayed == lastLsn);
+        check("Torn record: log truncated to " + file.length() + " of " + intactSize + " bytes", file.length() == intactSize);
+        check("Torn record: recovered state matches", expected.equals(describe(recoveredStore)));
+        recoveredStore.book(recoveredStore.getTimeslot(DATES[1], 203, TIMESLOTS.get(0)), "dvls1236", "DVL:torn");
+        check("Torn record: next LSN is " + recoveredLog.getAppendedLsn(), recoveredLog.getAppendedLsn() == lastLsn + 1);
+        recoveredLog.close();
+    }
+
+    /**
+     * A record whose checksum does not match ends the replay, it is dropped with the rest of the log
+     */
+    private static void corruptedRecord(File file) throws IOException {
+        WriteAheadLog writeAheadLog = new WriteAheadLog(file, false);
+        RoomStore roomStore = new RoomStore();
+        roomStore.recover(writeAheadLog, 0);
+        populate(roomStore);
+        long sizeBeforeLast = writeAheadLog.getAppendedSize();
+        roomStore.book(roomStore.getTimeslot(DATES[1], 203, TIMESLOTS.get(0)), "dvls1236", "DVL:corrupted");
+        long lastLsn = writeAheadLog.getAppendedLsn();
+        writeAheadLog.close();
+
+        // Flip the last byte of the last record
+        try (RandomAccessFile output = new RandomAccessFile(file, "rw")){
+            output.seek(file.length() - 1);
+            int last = output.read();
+            output.seek(file.length() - 1);
+            output.write(last ^ 0xff);
+        }
+
+        WriteAheadLog recoveredLog = new WriteAheadLog(file, false);
+        RoomStore recoveredStore = new RoomStore();
+        long replayed = recoveredStore.recover(recoveredLog, 0);
+        check("Corrupted record: replayed " + replayed + " of " + lastLsn + " mutations", replayed == lastLsn - 1);
+        check("Corrupted record: log truncated to " + file.length() + " bytes", file.length() == sizeBeforeLast);
+        check("Corrupted record: booking dropped", recoveredStore.findBooking("DVL:corrupted") == null);
+        recoveredLog.close();
+    }
+
+    /**
+     * A snapshot drops the records it covers from the log, the records appended after it keep their
+     * LSNs and a restart from the snapshot and the rest of the log restores the state before the crash
+     */
+    private static void snapshotAndTail(File directory) throws IOException {
+        File file = new File(directory, "DVL.wal");
+        WriteAheadLog writeAheadLog = new WriteAheadLog(file, false);
+        RoomStore roomStore = new RoomStore();
+        Snapshotter snapshotter = new Snapshotter("DVL", roomStore, writeAheadLog, Long.MAX_VALUE, 1);
+        roomStore.recover(writeAheadLog, snapshotter.load());
+        populate(roomStore);
+        long snapshotLsn = writeAheadLog.getAppendedLsn();
+        check("Snapshot: written at LSN " + snapshotLsn, snapshotter.snapshot(1) && snapshotter.getSnapshotLsn() == snapshotLsn);
+        check("Snapshot: log truncated to " + file.length() + " bytes", file.length() == 0);
+
+        // Mutations after the snapshot, the log is left open as by a crash
+        roomStore.book(roomStore.getTimeslot(DATES[0], 201, TIMESLOTS.get(1)), "dvls1235", "DVL:tail");
+        check("Snapshot: LSN after truncate is " + writeAheadLog.getAppendedLsn(), writeAheadLog.getAppendedLsn() == snapshotLsn + 1);
+        roomStore.release(roomStore.findBooking("DVL:0"), "DVL:0");
+        roomStore.deleteRoom(DATES[1], 202, TIMESLOTS.subList(0, 2));
+        roomStore.createRoom(DATES[1], 204, TIMESLOTS);
+        long lastLsn = writeAheadLog.getAppendedLsn();
+        List<String> expected = describe(roomStore);
+
+        WriteAheadLog recoveredLog = new WriteAheadLog(file, false);
+        RoomStore recoveredStore = new RoomStore();
+        Snapshotter recoveredSnapshotter = new Snapshotter("DVL", recoveredStore, recoveredLog, Long.MAX_VALUE, 1);
+        long loadedLsn = recoveredSnapshotter.load();
+        long replayed = recoveredStore.recover(recoveredLog, loadedLsn);
+        check("Snapshot: loaded snapshot at LSN " + loadedLsn + " and replayed " + replayed + " mutations",
+                loadedLsn == snapshotLsn && replayed == lastLsn - snapshotLsn);
+        check("Snapshot: recovered state matches", expected.equals(describe(recoveredStore)));
+        recoveredStore.book(recoveredStore.getTimeslot(DATES[1], 204, TIMESLOTS.get(0)), "dvls1236", "DVL:recovered");
+        check("Snapshot: next LSN is " + recoveredLog.getAppendedLsn(), recoveredLog.getAppendedLsn() == lastLsn + 1);
+        recoveredLog.close();
+        writeAheadLog.close();
+    }
+
+    /**
+     * Creates rooms on every test date and books one timeslot in each of them
+     */
+    private static void populate(RoomStore roomStore){
+        int booking = 0;
+        for (String date: DATES){
+            for (int roomNumber = 201; roomNumber <= 203; roomNumber++){
+                roomStore.createRoom(date, roomNumber, TIMESLOTS);
+                Timeslot timeslot = roomStore.getTimeslot(date, roomNumber, TIMESLOTS.get(booking % TIMESLOTS.size()));
+                roomStore.book(timeslot, "dvls1234", "DVL:" + booking++);
+            }
+        }
+    }
+
+    /**
+     * Lists the free timeslots of every test date and every booking, in a stable order
+     */
+    private static List<String> describe(RoomStore roomStore){
+        List<String> state = new ArrayList<>();
+        for (String date: DATES){
+            for (Timeslot timeslot: roomStore.listAvailable(date))
+                state.add(date + " " + timeslot.getRoomNumber() + " " + timeslot.getTimeslot() + " free");
+            state.add(date + " available " + roomStore.countAvailable(date));
+        }
+        for (Timeslot timeslot: roomStore.listBookings())
+            state.add(timeslot.getDate() + " " + timeslot.getRoomNumber() + " " + timeslot.getTimeslot() + " "
+                    + timeslot.getStudentId() + " " + timeslot.getBookingId());
+        Collections.sort(state);
+        return state;
+    }
+
+    private static void check(String message, boolean result){
+        System.out.println(message + " (" + result + ")");
+        passed &= result;
+    }
+}
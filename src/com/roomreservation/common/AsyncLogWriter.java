@@ -0,0 +1,157 @@
+package com.roomreservation.common;
+
+import com.roomreservation.protobuf.protos.ResponseObject;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.roomreservation.common.ConsoleColours.ANSI_RED;
+import static com.roomreservation.common.ConsoleColours.RESET;
+
+/**
+ * Writes log entries to a sink on a single background thread. Request threads only place the entry
+ * in a lock-free ring buffer; the writer drains every entry waiting, writes them and flushes once per
+ * drain, so a burst of requests costs a single write to the file. When the buffer is full the entry is
+ * either dropped and counted, or the request thread waits for room, depending on the policy.
+ */
+public class AsyncLogWriter {
+
+    public enum Policy {
+        DROP,
+        BLOCK
+    }
+
+    private static final int MAX_BATCH = 4096;
+
+    private final String name;
+    private final LogSink sink;
+    private final Policy policy;
+    private final MpscRingBuffer<ResponseObject> buffer;
+    private final Thread writer;
+    private volatile boolean writerParked = false;
+    private volatile boolean closed = false;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+
+    /**
+     * Starts writer thread
+     * @param name Name of the log, used for the thread name
+     * @param sink Log sink, only used by the writer thread from now on
+     * @param capacity Number of entries the ring buffer holds
+     * @param policy Policy when the ring buffer is full
+     */
+    public AsyncLogWriter(String name, LogSink sink, int capacity, Policy policy){
+        this.name = name;
+        this.sink = sink;
+        this.policy = policy;
+        buffer = new MpscRingBuffer<>(capacity);
+        writer = new Thread(this::run, "log-writer-" + name);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues entry for writing
+     * @param responseObject Response object to log
+     * @return True if the entry was queued, false if it was dropped
+     */
+    public boolean log(ResponseObject responseObject){
+        while (!buffer.offer(responseObject)){
+            if (policy == Policy.DROP || closed){
+                droppedCount.incrementAndGet();
+                if (writerParked)
+                    LockSupport.unpark(writer);
+                return false;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+        }
+        if (writerParked)
+            LockSupport.unpark(writer);
+        return true;
+    }
+
+    /**
+     * Writes remaining entries and closes the sink, waiting at most the timeout
+     * @param timeout Timeout in milliseconds
+     */
+    public void close(long timeout){
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(timeout);
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writer thread, group commits every entry waiting in the buffer
+     */
+    private void run(){
+        while (true){
+            try {
+                int written = 0;
+                ResponseObject responseObject;
+                while (written < MAX_BATCH && (responseObject = buffer.poll()) != null){
+                    sink.write(responseObject);
+                    written++;
+                }
+                if (written > 0){
+                    sink.flush();
+                    writtenCount.addAndGet(written);
+                    flushCount.incrementAndGet();
+                    continue;
+                }
+                if (closed){
+                    closeSink();
+                    return;
+                }
+                // Producers unpark the writer once they see it parked, checked again to not miss an entry
+                writerParked = true;
+                if (buffer.isEmpty() && !closed)
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+                writerParked = false;
+            } catch (IOException e){
+                System.out.println(ANSI_RED + "Log " + name + ": " + e.getMessage() + RESET);
+            }
+        }
+    }
+
+    private void closeSink(){
+        try {
+            sink.close();
+        } catch (IOException e){
+            System.out.println(ANSI_RED + "Log " + name + ": " + e.getMessage() + RESET);
+        }
+    }
+
+    public Policy getPolicy(){
+        return policy;
+    }
+
+    public int getQueueDepth(){
+        return buffer.size();
+    }
+
+    public long getDroppedCount(){
+        return droppedCount.get();
+    }
+
+    public long getWrittenCount(){
+        return writtenCount.get();
+    }
+
+    public long getFlushCount(){
+        return flushCount.get();
+    }
+
+    @Override
+    public String toString(){
+        return name + ": " + policy + " | Queue depth: " + getQueueDepth() + "/" + buffer.capacity() + " | Written: "
+                + getWrittenCount() + " | Flushes: " + getFlushCount() + " | Dropped: " + getDroppedCount();
+    }
+}
@@ -8,6 +8,11 @@ import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.roomreservation.common.ConsoleColours.ANSI_RED;
 import static com.roomreservation.common.ConsoleColours.RESET;
@@ -15,6 +20,19 @@ import static com.roomreservation.common.ConsoleColours.RESET;
 public class CentralRepositoryUtils {
     public static final String SERVER_HOST = "localhost";
     public static final String SERVER_PATH = "server";
+    public static final long LOOKUP_TTL = 30000;
+    public static final long NEGATIVE_LOOKUP_TTL = 2000;
+    // Central repository messages are not framed, a message and its reply each fit in one datagram of at most this size
+    public static final int MAX_MESSAGE_SIZE = 1024;
+
+    private static final ConcurrentHashMap<String, CachedLookup> lookupCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, CompletableFuture<CentralRepository>> inFlightLookups = new ConcurrentHashMap<>();
+    private static final RttEstimator rttEstimator = new RttEstimator();
+    private static final ExecutorService lookupExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "central-repository-lookup");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Trims byte array to remove any 0 entries (or empty entries) so that the Protobuf can parse it properly
@@ -42,25 +60,81 @@ public class CentralRepositoryUtils {
     }
 
     /**
-     * Performs a udp request to the central repository
+     * Performs a lookup request on the Central Repository without blocking the caller, reusing a cached
+     * answer while it is fresh. On a miss the blocking lookup runs on the lookup pool; lookups of different
+     * servers run in parallel and concurrent misses for the same server share a single lookup. Failed
+     * lookups are cached for a shorter time so that a missing server is not looked up on every call.
+     * @param campus Campus name (dvl, kkl, wst)
+     * @param type Server type (udp, web)
+     * @return Future completed with the central repository object, null if the central repository is unreachable
+     */
+    public static CompletableFuture<CentralRepository> lookupServerAsync(String campus, String type){
+        String key = cacheKey(campus, type);
+        CachedLookup cachedLookup = lookupCache.get(key);
+        if (cachedLookup != null && cachedLookup.expiry > System.currentTimeMillis())
+            return CompletableFuture.completedFuture(cachedLookup.centralRepository);
+        CompletableFuture<CentralRepository> lookup = new CompletableFuture<>();
+        CompletableFuture<CentralRepository> inFlight = inFlightLookups.putIfAbsent(key, lookup);
+        if (inFlight != null)
+            return inFlight;
+        lookupExecutor.execute(() -> {
+            CentralRepository centralRepository = lookupServer(campus, type);
+            boolean found = centralRepository != null && centralRepository.getStatus();
+            lookupCache.put(key, new CachedLookup(centralRepository, System.currentTimeMillis() + (found ? LOOKUP_TTL : NEGATIVE_LOOKUP_TTL)));
+            inFlightLookups.remove(key, lookup);
+            lookup.complete(centralRepository);
+        });
+        return lookup;
+    }
+
+    /**
+     * Starts the lookup of a server type on every campus at once so that the cache is warm before the
+     * first scatter-gather
+     * @param type Server type (udp, web)
+     */
+    public static void prefetch(String type){
+        for (Campus campus: Campus.values())
+            lookupServerAsync(campus.toString(), type);
+    }
+
+    /**
+     * Removes cached lookup, used when the cached server could not be reached
+     * @param campus Campus name (dvl, kkl, wst)
+     * @param type Server type (udp, web)
+     */
+    public static void invalidate(String campus, String type){
+        lookupCache.remove(cacheKey(campus, type));
+    }
+
+    private static String cacheKey(String campus, String type){
+        return campus.toUpperCase() + ":" + type;
+    }
+
+    /**
+     * Performs a udp request to the central repository, each request uses its own socket so requests can run in parallel
      * @param centralRepositoryRequest Central repository request object
      * @return Central repository response object
      */
-    public synchronized static CentralRepository udpTransfer(CentralRepository centralRepositoryRequest){
+    public static CentralRepository udpTransfer(CentralRepository centralRepositoryRequest){
         DatagramSocket datagramSocket = null;
         try {
             int remotePort = 1024;
             datagramSocket = new DatagramSocket();
-            datagramSocket.setSoTimeout(1000); // Set timeout
+            datagramSocket.setSoTimeout((int) rttEstimator.getAttemptTimeout()); // Single attempt, no retransmissions to wait for
             InetAddress host = InetAddress.getLocalHost();
             DatagramPacket request = new DatagramPacket(centralRepositoryRequest.toByteArray(), centralRepositoryRequest.toByteArray().length, host, remotePort);
+            long start = System.nanoTime();
             datagramSocket.send(request);
-            byte[] buffer = new byte[1000];
+            byte[] buffer = new byte[MAX_MESSAGE_SIZE];
             DatagramPacket reply = new DatagramPacket(buffer, buffer.length);
             datagramSocket.receive(reply);
+            rttEstimator.addSample(System.nanoTime() - start);
             return CentralRepository.parseFrom(trim(reply));
         }
-        catch (SocketException e){
+        catch (SocketTimeoutException e){
+            rttEstimator.recordTimeout();
+            System.out.println(ANSI_RED + "Socket: " + e.getMessage() + RESET);
+        } catch (SocketException e){
             System.out.println(ANSI_RED + "Socket: " + e.getMessage() + RESET);
         } catch (IOException e){
             System.out.println(ANSI_RED + "IO: " + e.getMessage() + RESET);
@@ -87,7 +161,7 @@ public class CentralRepositoryUtils {
     }
 
     /**
-     * Registers server with the central repository
+     * Registers server with the central repository, a lookup of it cached before registering is dropped
      * @param campus Campus name (dvl, kkl, wst)
      * @param type Server type (udp, rmi)
      * @param port Network port
@@ -102,8 +176,19 @@ public class CentralRepositoryUtils {
         centralRepositoryRequest.setType(type);
         centralRepositoryRequest.setCampus(campus);
         CentralRepository centralRepositoryResponse = udpTransfer(centralRepositoryRequest.build());
+        invalidate(campus, type);
         if (centralRepositoryResponse != null)
             return centralRepositoryResponse.getStatus();
         return false;
     }
+
+    private static class CachedLookup {
+        private final CentralRepository centralRepository;
+        private final long expiry;
+
+        private CachedLookup(CentralRepository centralRepository, long expiry){
+            this.centralRepository = centralRepository;
+            this.expiry = expiry;
+        }
+    }
 }
@@ -0,0 +1,124 @@
+package com.roomreservation.common;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.roomreservation.common.ConsoleColours.ANSI_RED;
+import static com.roomreservation.common.ConsoleColours.RESET;
+
+/**
+ * Circuit breaker guarding the requests to a single remote server. After a number of consecutive
+ * failures the circuit opens and requests fail right away instead of waiting for the timeout. Once the
+ * open time has passed the circuit becomes half-open and lets a single probe request through, closing
+ * again if it succeeds or reopening if it fails.
+ *
+ * Configured with the following system properties:
+ *   roomreservation.breaker.failures  Consecutive failures before the circuit opens (default: 5)
+ *   roomreservation.breaker.openTime  Time in milliseconds before a probe is allowed (default: 5000)
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openTime;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong openCount = new AtomicLong();
+
+    public CircuitBreaker(String name){
+        this(name, Integer.getInteger("roomreservation.breaker.failures", 5), Long.getLong("roomreservation.breaker.openTime", 5000));
+    }
+
+    /**
+     * @param name Name of the remote server, used in the monitoring output
+     * @param failureThreshold Consecutive failures before the circuit opens
+     * @param openTime Time in milliseconds before a probe is allowed
+     */
+    public CircuitBreaker(String name, int failureThreshold, long openTime){
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openTime = openTime;
+    }
+
+    /**
+     * Checks if a request may be sent, every allowed request must be followed by recordSuccess or recordFailure
+     * @return True if the request may be sent, false if it should fail right away
+     */
+    public boolean allowRequest(){
+        switch (state.get()){
+            case CLOSED:
+                return true;
+            case OPEN:
+                // The probe flag is already held while open, the thread moving to half-open sends the probe
+                if (System.currentTimeMillis() - openedAt.get() >= openTime && state.compareAndSet(State.OPEN, State.HALF_OPEN))
+                    return true;
+                break;
+            case HALF_OPEN:
+            default:
+                if (probeInFlight.compareAndSet(false, true))
+                    return true;
+                break;
+        }
+        rejectedCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Records a request that received a reply
+     */
+    public void recordSuccess(){
+        consecutiveFailures.set(0);
+        if (state.get() != State.CLOSED){
+            state.set(State.CLOSED);
+            probeInFlight.set(false);
+            System.out.println("Circuit closed for " + name);
+        }
+    }
+
+    /**
+     * Records a request that did not receive a reply
+     */
+    public void recordFailure(){
+        int failures = consecutiveFailures.incrementAndGet();
+        State current = state.get();
+        if ((current == State.HALF_OPEN || (current == State.CLOSED && failures >= failureThreshold)) && state.compareAndSet(current, State.OPEN)){
+            openedAt.set(System.currentTimeMillis());
+            probeInFlight.set(true);
+            openCount.incrementAndGet();
+            System.out.println(ANSI_RED + "Circuit opened for " + name + " after " + failures + " consecutive failures" + RESET);
+        }
+    }
+
+    public State getState(){
+        return state.get();
+    }
+
+    public int getConsecutiveFailures(){
+        return consecutiveFailures.get();
+    }
+
+    public long getRejectedCount(){
+        return rejectedCount.get();
+    }
+
+    public long getOpenCount(){
+        return openCount.get();
+    }
+
+    @Override
+    public String toString(){
+        return name + ": " + getState() + " | Consecutive failures: " + getConsecutiveFailures()
+                + " | Opened: " + getOpenCount() + " | Rejected: " + getRejectedCount();
+    }
+}
@@ -0,0 +1,54 @@
+package com.roomreservation.common;
+
+import com.roomreservation.protobuf.protos.ResponseObject;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * Writes log entries as Datetime,Message,RequestType,RequestParameters,Status lines, keeping the file
+ * open between entries
+ */
+public class CsvLogSink implements LogSink {
+    public static final String HEADER = "Datetime,Message,RequestType,RequestParameters,Status";
+
+    private final BufferedWriter writer;
+
+    /**
+     * Opens log file for appending, writing the header if the file is new
+     * @param logFilePath Logger file path
+     * @throws IOException Exception
+     */
+    public CsvLogSink(String logFilePath) throws IOException {
+        boolean created = new File(logFilePath).createNewFile();
+        writer = new BufferedWriter(new FileWriter(logFilePath, true), 64 * 1024);
+        if (created)
+            writer.append(HEADER).append("\n");
+    }
+
+    @Override
+    public void write(ResponseObject responseObject) throws IOException {
+        writer.append(toString(responseObject)).append("\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Converts Corba RMIResponse object to an appropriate string for the logger
+     * @param responseObject ResponseObject object
+     * @return CSV line
+     */
+    public static String toString(ResponseObject responseObject){
+        return responseObject.getDateTime() + "," + responseObject.getMessage() + "," + responseObject.getRequestType() + "," + responseObject.getRequestParameters() + "," + responseObject.getStatus();
+    }
+}
@@ -0,0 +1,115 @@
+package com.roomreservation.common;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.roomreservation.common.ConsoleColours.ANSI_RED;
+import static com.roomreservation.common.ConsoleColours.RESET;
+
+/**
+ * Executor for the web service endpoint. The built-in HTTP server runs every exchange on its single
+ * dispatcher thread unless it is given an executor, so SOAP requests are handed to a bounded pool
+ * instead. When every worker is busy and the queue is full the exchange runs on the dispatcher thread,
+ * which stops accepting new connections until it is done, pushing back on clients instead of dropping them.
+ *
+ * Configured with the following system properties:
+ *   roomreservation.http.workers  Number of worker threads (default: 4 x available processors)
+ *   roomreservation.http.queue    Maximum number of queued exchanges (default: 256)
+ */
+public class EndpointExecutor implements Executor {
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+    private final AtomicLong totalServiceTime = new AtomicLong();
+
+    public EndpointExecutor(String name){
+        this(name, Integer.getInteger("roomreservation.http.workers", Runtime.getRuntime().availableProcessors() * 4),
+                Integer.getInteger("roomreservation.http.queue", 256));
+    }
+
+    public EndpointExecutor(String name, int workers, int queueCapacity){
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threadCount = new AtomicInteger();
+        RejectedExecutionHandler callerRuns = (runnable, pool) -> {
+            if (callerRunsCount.incrementAndGet() % 100 == 1)
+                System.out.println(ANSI_RED + "Web service saturated, running on dispatcher | " + this + RESET);
+            if (!pool.isShutdown())
+                runnable.run();
+        };
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, name + "-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, callerRuns);
+        executor.prestartAllCoreThreads();
+    }
+
+    /**
+     * Runs an exchange on the pool, or on the calling thread if the pool is saturated
+     * @param exchange Exchange handler
+     */
+    @Override
+    public void execute(Runnable exchange){
+        executor.execute(() -> {
+            int current = inFlight.incrementAndGet();
+            peakInFlight.accumulateAndGet(current, Math::max);
+            long start = System.nanoTime();
+            try {
+                exchange.run();
+            } finally {
+                totalServiceTime.addAndGet(System.nanoTime() - start);
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    public int getInFlight(){
+        return inFlight.get();
+    }
+
+    public int getPeakInFlight(){
+        return peakInFlight.get();
+    }
+
+    public int getQueueDepth(){
+        return executor.getQueue().size();
+    }
+
+    public int getQueueCapacity(){
+        return queueCapacity;
+    }
+
+    public int getPoolSize(){
+        return executor.getCorePoolSize();
+    }
+
+    public long getCompletedCount(){
+        return executor.getCompletedTaskCount();
+    }
+
+    public long getCallerRunsCount(){
+        return callerRunsCount.get();
+    }
+
+    /**
+     * @return Mean time in milliseconds spent handling an exchange
+     */
+    public double getMeanServiceTime(){
+        long completed = getCompletedCount() + getCallerRunsCount();
+        return completed == 0 ? 0 : totalServiceTime.get() / 1e6 / completed;
+    }
+
+    @Override
+    public String toString(){
+        return "In flight: " + getInFlight() + "/" + getPoolSize() + " (peak " + getPeakInFlight() + ") | Queue depth: "
+                + getQueueDepth() + "/" + queueCapacity + " | Completed: " + getCompletedCount()
+                + " | Ran on dispatcher: " + getCallerRunsCount() + " | Mean service time: " + String.format("%.2f", getMeanServiceTime()) + "ms";
+    }
+}
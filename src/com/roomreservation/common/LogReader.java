@@ -0,0 +1,186 @@
+package com.roomreservation.common;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Scans the history of a log for incident analysis, printing every entry containing a text. Reads
+ * the log file itself and all of its segments written by MappedLogSink, oldest first. Uncompressed
+ * segments are mapped and searched byte by byte without decoding lines that do not match, compressed
+ * segments are streamed.
+ *
+ * Usage: java LogReader [LOG FILE PATH] [TEXT]
+ *   ie. java LogReader log/server/DVL.csv dvls1234
+ */
+public class LogReader {
+    private static final int MAP_CHUNK = 256 * 1024 * 1024;
+
+    private final byte[] pattern;
+    private final PrintStream output;
+    private long matchCount = 0;
+    private long scannedBytes = 0;
+
+    /**
+     * @param text Text to search for, empty to print every entry
+     * @param output Output for the matching entries
+     */
+    public LogReader(String text, PrintStream output){
+        this.pattern = text.getBytes(StandardCharsets.UTF_8);
+        this.output = output;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2){
+            System.err.println("Usage: java LogReader [LOG FILE PATH] [TEXT]");
+            System.exit(1);
+        }
+        PrintStream output = new PrintStream(new BufferedOutputStream(System.out, 64 * 1024), false);
+        LogReader logReader = new LogReader(args.length == 2 ? args[1] : "", output);
+        long start = System.nanoTime();
+        try {
+            for (File file: listFiles(args[0]))
+                logReader.scan(file);
+        } catch (IOException e){
+            System.err.println("IO: " + e.getMessage());
+            System.exit(1);
+        }
+        output.flush();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.printf("%d matching entries, %.1f MB scanned in %.2fs%n", logReader.matchCount, logReader.scannedBytes / 1e6, seconds);
+    }
+
+    /**
+     * Lists the log file and its segments, oldest first
+     * @param logFilePath Logger file path
+     * @return Files to read
+     */
+    public static List<File> listFiles(String logFilePath){
+        File logFile = new File(logFilePath).getAbsoluteFile();
+        File directory = logFile.getParentFile();
+        String baseName = MappedLogSink.baseName(logFile.getName());
+        List<File> files = new ArrayList<>();
+        if (logFile.isFile())
+            files.add(logFile);
+        for (int index: MappedLogSink.listSegments(directory, baseName)){
+            File segment = new File(directory, MappedLogSink.segmentName(baseName, index));
+            files.add(segment.isFile() ? segment : new File(segment.getPath() + ".gz"));
+        }
+        return files;
+    }
+
+    /**
+     * Prints the matching entries of a file, skipping the CSV header
+     * @param file Log file or segment
+     * @throws IOException Exception
+     */
+    public void scan(File file) throws IOException {
+        if (file.getName().endsWith(".gz")){
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(new FileInputStream(file), 64 * 1024), StandardCharsets.UTF_8), 64 * 1024)){
+                String line;
+                while ((line = reader.readLine()) != null){
+                    byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+                    scannedBytes += bytes.length + 1;
+                    if (!line.equals(CsvLogSink.HEADER) && matches(ByteBuffer.wrap(bytes), 0, bytes.length)){
+                        output.println(line);
+                        matchCount++;
+                    }
+                }
+            }
+            return;
+        }
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r"); FileChannel channel = randomAccessFile.getChannel()){
+            long size = channel.size();
+            long position = 0;
+            while (position < size){
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_CHUNK, size - position));
+                int consumed = scan(buffer, position + buffer.capacity() >= size);
+                if (consumed < 0)
+                    break; // Zero byte, end of a preallocated segment
+                position += consumed;
+            }
+        }
+    }
+
+    /**
+     * Prints the matching lines of a mapped chunk, only lines containing the pattern are decoded
+     * @param buffer Mapped chunk
+     * @param last True if this is the end of the file
+     * @return Number of bytes consumed (complete lines), or -1 if the end of the content was found
+     */
+    private int scan(MappedByteBuffer buffer, boolean last){
+        int lineStart = 0;
+        int limit = buffer.limit();
+        for (int i = 0; i < limit; i++){
+            byte value = buffer.get(i);
+            if (value == '\n' || value == 0){
+                printIfMatch(buffer, lineStart, i - lineStart);
+                scannedBytes += i - lineStart + 1;
+                lineStart = i + 1;
+                if (value == 0)
+                    return -1;
+            }
+        }
+        if (last && lineStart < limit){
+            printIfMatch(buffer, lineStart, limit - lineStart);
+            scannedBytes += limit - lineStart;
+            return limit;
+        }
+        if (lineStart == 0)
+            return limit; // Line longer than a chunk
+        return lineStart;
+    }
+
+    private void printIfMatch(ByteBuffer buffer, int offset, int length){
+        if (length == 0 || !matches(buffer, offset, length))
+            return;
+        byte[] line = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.get(line);
+        String entry = new String(line, StandardCharsets.UTF_8);
+        if (entry.equals(CsvLogSink.HEADER))
+            return;
+        output.println(entry);
+        matchCount++;
+    }
+
+    /**
+     * Searches line for the pattern
+     * @param buffer Buffer holding the line
+     * @param offset Start of the line
+     * @param length Length of the line
+     * @return True if the line contains the pattern
+     */
+    private boolean matches(ByteBuffer buffer, int offset, int length){
+        if (pattern.length == 0)
+            return true;
+        byte first = pattern[0];
+        for (int i = offset, end = offset + length - pattern.length; i <= end; i++){
+            if (buffer.get(i) != first)
+                continue;
+            int j = 1;
+            while (j < pattern.length && buffer.get(i + j) == pattern[j])
+                j++;
+            if (j == pattern.length)
+                return true;
+        }
+        return false;
+    }
+
+    public long getMatchCount(){
+        return matchCount;
+    }
+}
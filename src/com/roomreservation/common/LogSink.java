@@ -0,0 +1,30 @@
+package com.roomreservation.common;
+
+import com.roomreservation.protobuf.protos.ResponseObject;
+
+import java.io.IOException;
+
+/**
+ * Destination of log entries. Only ever used by the single log writer thread, so implementations do
+ * not need to be thread safe.
+ */
+public interface LogSink {
+    /**
+     * Appends entry, it may stay buffered until the next flush
+     * @param responseObject Response object to log
+     * @throws IOException Exception
+     */
+    void write(ResponseObject responseObject) throws IOException;
+
+    /**
+     * Writes buffered entries to the file
+     * @throws IOException Exception
+     */
+    void flush() throws IOException;
+
+    /**
+     * Flushes and closes the file
+     * @throws IOException Exception
+     */
+    void close() throws IOException;
+}
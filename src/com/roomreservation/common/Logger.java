@@ -2,11 +2,29 @@ package com.roomreservation.common;
 
 import com.roomreservation.protobuf.protos.ResponseObject;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static com.roomreservation.common.ConsoleColours.ANSI_RED;
+import static com.roomreservation.common.ConsoleColours.RESET;
+
+/**
+ * Request log. Entries are handed to an asynchronous writer per log file and written in batches by
+ * its background thread, so logging never waits on the disk. Pending entries are written on shutdown.
+ *
+ * Configured with the following system properties:
+ *   roomreservation.log.capacity  Number of entries waiting to be written per log (default: 8192)
+ *   roomreservation.log.policy    DROP to drop entries or BLOCK to wait when the buffer is full (default: BLOCK)
+ *   roomreservation.log.format    csv for a single CSV file, mapped for memory-mapped CSV segments or
+ *                                 protobuf for length-delimited ResponseObject messages (default: csv)
+ */
 public class Logger {
+    private static final ConcurrentHashMap<String, AsyncLogWriter> writers = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(Logger::close, "log-shutdown"));
+    }
 
     /**
      * Initializes logger file
@@ -14,32 +32,71 @@ public class Logger {
      * @throws IOException Exception
      */
     public static void initializeLog(String logFilePath) throws IOException {
-        if (new File(logFilePath).createNewFile()) {
-            FileWriter fileWriter = new FileWriter(logFilePath, false);
-            fileWriter.append("Datetime,Message,RequestType,RequestParameters,Status").append("\n");
-            fileWriter.close();
+        try {
+            getWriter(logFilePath);
+        } catch (UncheckedIOException e){
+            throw e.getCause();
         }
     }
 
     /**
      * Adds entry in log file
      * @param logFilePath Logger file path
-     * @throws IOException Exception
+     * @param responseObject Response object to log
      */
     public static void log(String logFilePath, ResponseObject responseObject) {
         try {
-            FileWriter fileWriter = new FileWriter(logFilePath, true);
-            fileWriter.append(toString(responseObject)).append("\n");
-            fileWriter.close();
-        } catch (IOException ignored) {}
+            getWriter(logFilePath).log(responseObject);
+        } catch (UncheckedIOException ignored) {}
+    }
+
+    /**
+     * Gets logging metrics
+     * @param logFilePath Logger file path
+     * @return Log writer, or null if the log was never opened
+     */
+    public static AsyncLogWriter getLogWriter(String logFilePath){
+        return writers.get(logFilePath);
     }
 
     /**
-     * Converts Corba RMIResponse object to an appropriate string for the logger
-     * @param responseObject ResponseObject object
-     * @return
+     * Writes pending entries of every log and closes them
      */
-    private static String toString(ResponseObject responseObject){
-        return responseObject.getDateTime() + "," + responseObject.getMessage() + "," + responseObject.getRequestType() + "," + responseObject.getRequestParameters() + "," + responseObject.getStatus();
+    public static void close(){
+        for (AsyncLogWriter writer: writers.values())
+            writer.close(5000);
+    }
+
+    /**
+     * Creates sink for the configured log format
+     * @param logFilePath Logger file path
+     * @return Log sink
+     * @throws IOException Exception
+     */
+    private static LogSink createSink(String logFilePath) throws IOException {
+        switch (System.getProperty("roomreservation.log.format", "csv").toLowerCase()){
+            case "mapped":
+                return new MappedLogSink(logFilePath);
+            case "protobuf":
+                return new ProtobufLogSink(logFilePath);
+            case "csv":
+            default:
+                return new CsvLogSink(logFilePath);
+        }
+    }
+
+    private static AsyncLogWriter getWriter(String logFilePath){
+        AsyncLogWriter writer = writers.get(logFilePath);
+        if (writer != null)
+            return writer;
+        return writers.computeIfAbsent(logFilePath, path -> {
+            try {
+                return new AsyncLogWriter(path, createSink(path), Integer.getInteger("roomreservation.log.capacity", 8192),
+                        AsyncLogWriter.Policy.valueOf(System.getProperty("roomreservation.log.policy", "BLOCK").toUpperCase()));
+            } catch (IOException e){
+                System.out.println(ANSI_RED + "Unable to open log " + path + ": " + e.getMessage() + RESET);
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 }
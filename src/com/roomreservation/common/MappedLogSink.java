@@ -0,0 +1,262 @@
+package com.roomreservation.common;
+
+import com.roomreservation.protobuf.protos.ResponseObject;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import static com.roomreservation.common.ConsoleColours.ANSI_RED;
+import static com.roomreservation.common.ConsoleColours.RESET;
+
+/**
+ * Writes CSV log entries into memory-mapped segment files next to the log file path, ie. log/server/DVL.csv
+ * is written as log/server/DVL.000001.csv, log/server/DVL.000002.csv and so on. Each segment is
+ * preallocated to the segment size and mapped once, so appending an entry is a copy into memory.
+ * When an entry does not fit the segment is truncated to its content and the next one is started.
+ * An entry is at most the segment size less the CSV header line (54 bytes with its newline), a longer
+ * one could never fit a segment and is rejected and counted instead of being cut.
+ * Closed segments can be compressed in the background, and the oldest segments deleted past a limit.
+ * Every segment starts with the CSV header so it can be read on its own, see LogReader.
+ *
+ * Configured with the following system properties:
+ *   roomreservation.log.segmentSize  Segment size in bytes (default: 67108864)
+ *   roomreservation.log.compress     Compress closed segments with gzip (default: false)
+ *   roomreservation.log.maxSegments  Number of segments kept, 0 to keep all (default: 0)
+ */
+public class MappedLogSink implements LogSink {
+    private static final byte[] HEADER = (CsvLogSink.HEADER + "\n").getBytes(StandardCharsets.UTF_8);
+    private static final ExecutorService compressor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "log-compressor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final File directory;
+    private final String baseName;
+    private final int segmentSize;
+    private final boolean compress;
+    private final int maxSegments;
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private int segmentIndex;
+    private RandomAccessFile segmentFile;
+    private MappedByteBuffer segment;
+
+    public MappedLogSink(String logFilePath) throws IOException {
+        this(logFilePath, Integer.getInteger("roomreservation.log.segmentSize", 64 * 1024 * 1024),
+                Boolean.getBoolean("roomreservation.log.compress"), Integer.getInteger("roomreservation.log.maxSegments", 0));
+    }
+
+    /**
+     * Opens the last segment of the log, or creates the first one
+     * @param logFilePath Logger file path
+     * @param segmentSize Segment size in bytes
+     * @param compress True to compress closed segments
+     * @param maxSegments Number of segments kept, 0 to keep all
+     * @throws IOException Exception
+     */
+    public MappedLogSink(String logFilePath, int segmentSize, boolean compress, int maxSegments) throws IOException {
+        File logFile = new File(logFilePath).getAbsoluteFile();
+        directory = logFile.getParentFile();
+        baseName = baseName(logFile.getName());
+        this.segmentSize = Math.max(segmentSize, HEADER.length * 2);
+        this.compress = compress;
+        this.maxSegments = maxSegments;
+        List<Integer> segments = listSegments(directory, baseName);
+        int last = segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+        if (last > 0 && new File(directory, segmentName(baseName, last)).exists())
+            reopenSegment(last);
+        else
+            openSegment(last + 1);
+
+        // Finish compressions interrupted by a shutdown, a partial .gz is overwritten
+        if (compress){
+            for (int index: segments){
+                File closedSegment = new File(directory, segmentName(baseName, index));
+                if (index != segmentIndex && closedSegment.exists())
+                    compressor.execute(() -> compress(closedSegment));
+            }
+        }
+    }
+
+    @Override
+    public void write(ResponseObject responseObject) throws IOException {
+        byte[] line = (CsvLogSink.toString(responseObject) + "\n").getBytes(StandardCharsets.UTF_8);
+        if (line.length > getMaxEntrySize()){
+            rejectedCount.incrementAndGet();
+            System.out.println(ANSI_RED + "Log entry of " + line.length + " bytes rejected, segments hold at most "
+                    + getMaxEntrySize() + " bytes per entry" + RESET);
+            return;
+        }
+        if (line.length > segment.remaining())
+            rollOver();
+        segment.put(line);
+    }
+
+    /**
+     * @return Largest entry in bytes, including its newline, that fits an empty segment
+     */
+    public int getMaxEntrySize(){
+        return segmentSize - HEADER.length;
+    }
+
+    /**
+     * @return Number of entries rejected for being larger than a segment
+     */
+    public long getRejectedCount(){
+        return rejectedCount.get();
+    }
+
+    /**
+     * Entries are in the page cache as soon as they are copied into the mapping, there is nothing to write
+     */
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeSegment(false);
+    }
+
+    /**
+     * Closes the current segment and starts the next one
+     * @throws IOException Exception
+     */
+    private void rollOver() throws IOException {
+        closeSegment(compress);
+        openSegment(segmentIndex + 1);
+        if (maxSegments > 0){
+            List<Integer> segments = listSegments(directory, baseName);
+            for (int i = 0; i < segments.size() - maxSegments; i++){
+                int index = segments.get(i);
+                new File(directory, segmentName(baseName, index)).delete();
+                new File(directory, segmentName(baseName, index) + ".gz").delete();
+            }
+        }
+    }
+
+    private void openSegment(int index) throws IOException {
+        segmentIndex = index;
+        segmentFile = new RandomAccessFile(new File(directory, segmentName(baseName, index)), "rw");
+        segmentFile.setLength(segmentSize);
+        segment = segmentFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment.put(HEADER);
+    }
+
+    /**
+     * Maps an existing segment again and finds the end of its content, the preallocated space after
+     * the last entry is still zero as entries never contain a zero byte
+     * @param index Segment index
+     * @throws IOException Exception
+     */
+    private void reopenSegment(int index) throws IOException {
+        segmentIndex = index;
+        segmentFile = new RandomAccessFile(new File(directory, segmentName(baseName, index)), "rw");
+        long length = segmentFile.length();
+        segmentFile.setLength(Math.max(length, segmentSize));
+        segment = segmentFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentFile.length());
+        int low = 0;
+        int high = (int) Math.min(length, segment.capacity());
+        while (low < high){
+            int middle = (low + high) >>> 1;
+            if (segment.get(middle) == 0)
+                high = middle;
+            else
+                low = middle + 1;
+        }
+        segment.position(low);
+        if (low == 0)
+            segment.put(HEADER);
+    }
+
+    /**
+     * Writes the mapping to disk and truncates the segment to its content
+     * @param compressSegment True to compress the segment in the background
+     * @throws IOException Exception
+     */
+    private void closeSegment(boolean compressSegment) throws IOException {
+        if (segmentFile == null)
+            return;
+        segment.force();
+        int length = segment.position();
+        segment = null;
+        try {
+            segmentFile.setLength(length);
+        } catch (IOException e){
+            // Some platforms refuse to truncate a mapped file, readers stop at the first zero byte
+        }
+        segmentFile.close();
+        segmentFile = null;
+        if (compressSegment){
+            File closedSegment = new File(directory, segmentName(baseName, segmentIndex));
+            compressor.execute(() -> compress(closedSegment));
+        }
+    }
+
+    /**
+     * Replaces segment with a gzip compressed copy
+     * @param closedSegment Closed segment
+     */
+    private static void compress(File closedSegment){
+        File compressed = new File(closedSegment.getPath() + ".gz");
+        try (InputStream input = new FileInputStream(closedSegment);
+             OutputStream output = new GZIPOutputStream(new FileOutputStream(compressed), 64 * 1024)){
+            input.transferTo(output);
+        } catch (IOException e){
+            System.out.println(ANSI_RED + "Unable to compress " + closedSegment + ": " + e.getMessage() + RESET);
+            compressed.delete();
+            return;
+        }
+        closedSegment.delete();
+    }
+
+    /**
+     * @param fileName Log file name (ie. DVL.csv)
+     * @return Name without the extension (ie. DVL)
+     */
+    static String baseName(String fileName){
+        int extension = fileName.lastIndexOf('.');
+        return extension > 0 ? fileName.substring(0, extension) : fileName;
+    }
+
+    static String segmentName(String baseName, int index){
+        return String.format("%s.%06d.csv", baseName, index);
+    }
+
+    /**
+     * Lists segment indexes of a log, compressed or not, in order
+     * @param directory Log directory
+     * @param baseName Log name without extension
+     * @return Segment indexes
+     */
+    static List<Integer> listSegments(File directory, String baseName){
+        Pattern pattern = Pattern.compile(Pattern.quote(baseName) + "\\.(\\d{6})\\.csv(\\.gz)?");
+        List<Integer> segments = new ArrayList<>();
+        String[] names = directory.list();
+        if (names != null){
+            for (String name: names){
+                Matcher matcher = pattern.matcher(name);
+                if (matcher.matches() && !segments.contains(Integer.parseInt(matcher.group(1))))
+                    segments.add(Integer.parseInt(matcher.group(1)));
+            }
+        }
+        segments.sort(null);
+        return segments;
+    }
+}
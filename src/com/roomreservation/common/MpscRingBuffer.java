@@ -0,0 +1,82 @@
+package com.roomreservation.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer. Each slot carries a sequence
+ * number telling whether it is free for the producer claiming that position or filled for the
+ * consumer, so producers only contend on the compare-and-set of the tail and never on the consumer.
+ * @param <E> Element type
+ */
+public class MpscRingBuffer<E> {
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head = 0; // Only written by the consumer
+
+    /**
+     * @param capacity Capacity, rounded up to a power of two
+     */
+    public MpscRingBuffer(int capacity){
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        mask = size - 1;
+        elements = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++)
+            sequences.set(i, i);
+    }
+
+    /**
+     * Adds element without blocking
+     * @param element Element
+     * @return True if the element was added, false if the buffer is full
+     */
+    public boolean offer(E element){
+        while (true){
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0){
+                if (tail.compareAndSet(position, position + 1)){
+                    elements.lazySet(index, element);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0)
+                return false;
+        }
+    }
+
+    /**
+     * Removes the oldest element, may only be called by the consumer thread
+     * @return Element, or null if the buffer is empty
+     */
+    public E poll(){
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1)
+            return null;
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        sequences.lazySet(index, head + mask + 1);
+        head++;
+        return element;
+    }
+
+    public boolean isEmpty(){
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+    public int capacity(){
+        return mask + 1;
+    }
+
+    /**
+     * @return Approximate number of elements waiting
+     */
+    public int size(){
+        return (int) Math.max(0, tail.get() - head);
+    }
+}
@@ -0,0 +1,92 @@
+package com.roomreservation.common;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.roomreservation.protobuf.protos.ResponseObject;
+
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.function.Consumer;
+
+/**
+ * Streams a binary log written by ProtobufLogSink and converts it to CSV, printing every entry
+ * containing a text. Fields are quoted where needed, so the output is valid CSV even for messages
+ * containing commas or quotes. Entries are parsed one at a time, so logs of any size are read in
+ * constant memory. A truncated last entry, left by a crash while writing, ends the read.
+ *
+ * Usage: java ProtobufLogReader [LOG FILE PATH] [TEXT]
+ *   ie. java ProtobufLogReader log/server/DVL.pb dvls1234 > DVL.csv
+ */
+public class ProtobufLogReader {
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2){
+            System.err.println("Usage: java ProtobufLogReader [LOG FILE PATH] [TEXT]");
+            System.exit(1);
+        }
+        String text = args.length == 2 ? args[1] : "";
+        PrintStream output = new PrintStream(new BufferedOutputStream(System.out, 64 * 1024), false);
+        output.println(CsvLogSink.HEADER);
+        long[] counts = new long[2];
+        long start = System.nanoTime();
+        try (InputStream inputStream = new FileInputStream(args[0])){
+            counts[0] = read(inputStream, responseObject -> {
+                String line = toCsv(responseObject);
+                if (text.isEmpty() || line.contains(text)){
+                    output.println(line);
+                    counts[1]++;
+                }
+            });
+        } catch (IOException e){
+            System.err.println("IO: " + e.getMessage());
+            System.exit(1);
+        }
+        output.flush();
+        System.err.printf("%d of %d entries matched in %.2fs%n", counts[1], counts[0], (System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * Reads every entry of a binary log
+     * @param inputStream Binary log
+     * @param consumer Called with each entry in order
+     * @return Number of entries read
+     * @throws IOException Exception
+     */
+    public static long read(InputStream inputStream, Consumer<ResponseObject> consumer) throws IOException {
+        CodedInputStream codedInput = CodedInputStream.newInstance(inputStream, 64 * 1024);
+        long count = 0;
+        try {
+            while (!codedInput.isAtEnd()){
+                int length = codedInput.readRawVarint32();
+                int limit = codedInput.pushLimit(length);
+                ResponseObject responseObject = ResponseObject.parseFrom(codedInput);
+                codedInput.popLimit(limit);
+                codedInput.resetSizeCounter();
+                consumer.accept(responseObject);
+                count++;
+            }
+        } catch (InvalidProtocolBufferException e){
+            System.err.println("Log ends with a truncated entry after " + count + " entries");
+        }
+        return count;
+    }
+
+    /**
+     * Converts entry to a CSV line in the Datetime,Message,RequestType,RequestParameters,Status format
+     * @param responseObject Response object
+     * @return CSV line
+     */
+    public static String toCsv(ResponseObject responseObject){
+        return quote(responseObject.getDateTime()) + "," + quote(responseObject.getMessage()) + "," + quote(responseObject.getRequestType())
+                + "," + quote(responseObject.getRequestParameters()) + "," + responseObject.getStatus();
+    }
+
+    private static String quote(String field){
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0)
+            return field;
+        return "\"" + field.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,57 @@
+package com.roomreservation.common;
+
+import com.google.protobuf.CodedOutputStream;
+import com.roomreservation.protobuf.protos.ResponseObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes log entries as length-delimited ResponseObject messages, the format of writeDelimitedTo,
+ * next to the log file path with a .pb extension (ie. log/server/DVL.csv is written as log/server/DVL.pb).
+ * Fields are kept as they are, so messages containing commas stay intact. A single coded output
+ * stream is reused for every entry instead of the one writeDelimitedTo allocates per call.
+ * Read with ProtobufLogReader.
+ */
+public class ProtobufLogSink implements LogSink {
+    private final OutputStream outputStream;
+    private final CodedOutputStream codedOutput;
+
+    /**
+     * Opens log file for appending
+     * @param logFilePath Logger file path
+     * @throws IOException Exception
+     */
+    public ProtobufLogSink(String logFilePath) throws IOException {
+        outputStream = new FileOutputStream(toProtobufPath(logFilePath), true);
+        codedOutput = CodedOutputStream.newInstance(outputStream, 64 * 1024);
+    }
+
+    @Override
+    public void write(ResponseObject responseObject) throws IOException {
+        codedOutput.writeUInt32NoTag(responseObject.getSerializedSize());
+        responseObject.writeTo(codedOutput);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        codedOutput.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        codedOutput.flush();
+        outputStream.close();
+    }
+
+    /**
+     * @param logFilePath Logger file path (ie. log/server/DVL.csv)
+     * @return Protobuf log file path (ie. log/server/DVL.pb)
+     */
+    public static String toProtobufPath(String logFilePath){
+        File logFile = new File(logFilePath);
+        return new File(logFile.getParentFile(), MappedLogSink.baseName(logFile.getName()) + ".pb").getPath();
+    }
+}
@@ -0,0 +1,129 @@
+package com.roomreservation.common;
+
+import java.net.SocketAddress;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Remembers the replies of recently handled requests by client address and request id, so that a
+ * retransmitted request is answered with the original reply instead of being performed again. A
+ * retransmission arriving while the original is still being handled is dropped, the client will
+ * retransmit again or receive the original reply.
+ *
+ * Configured with the following system properties:
+ *   roomreservation.udp.replyCacheTtl   Time in milliseconds a reply is kept (default: 30000)
+ *   roomreservation.udp.replyCacheSize  Maximum number of replies kept (default: 4096)
+ */
+public class ReplyCache {
+    private final long ttl;
+    private final int capacity;
+    private final ConcurrentHashMap<Key, Reply> replies = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Key> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public ReplyCache(){
+        this(Long.getLong("roomreservation.udp.replyCacheTtl", 30000), Integer.getInteger("roomreservation.udp.replyCacheSize", 4096));
+    }
+
+    /**
+     * @param ttl Time in milliseconds a reply is kept
+     * @param capacity Maximum number of replies kept
+     */
+    public ReplyCache(long ttl, int capacity){
+        this.ttl = ttl;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records the start of a request
+     * @param address Client address
+     * @param requestId Request id
+     * @return Null if the request is new and must be performed, otherwise the earlier reply (its
+     * response is null while the original request is still being handled)
+     */
+    public Reply begin(SocketAddress address, long requestId){
+        evictExpired();
+        Key key = new Key(address, requestId);
+        Reply existing = replies.putIfAbsent(key, new Reply());
+        if (existing == null)
+            insertionOrder.add(key);
+        return existing;
+    }
+
+    /**
+     * Stores the reply of a handled request
+     * @param address Client address
+     * @param requestId Request id
+     * @param response Encoded response
+     */
+    public void complete(SocketAddress address, long requestId, byte[] response){
+        Reply reply = replies.get(new Key(address, requestId));
+        if (reply != null)
+            reply.response = response;
+    }
+
+    /**
+     * Forgets a request that was not performed, so that a retransmission is handled as a new request
+     * @param address Client address
+     * @param requestId Request id
+     */
+    public void abort(SocketAddress address, long requestId){
+        replies.remove(new Key(address, requestId));
+    }
+
+    public int size(){
+        return replies.size();
+    }
+
+    /**
+     * Removes replies older than the ttl, and the oldest replies while over capacity
+     */
+    private void evictExpired(){
+        long now = System.currentTimeMillis();
+        Key oldest;
+        while ((oldest = insertionOrder.peek()) != null){
+            Reply reply = replies.get(oldest);
+            if (reply != null && now - reply.created < ttl && replies.size() < capacity)
+                break;
+            if (insertionOrder.remove(oldest))
+                replies.remove(oldest, reply);
+        }
+    }
+
+    public static class Reply {
+        private final long created = System.currentTimeMillis();
+        private volatile byte[] response;
+
+        /**
+         * @return Encoded response, or null if the request is still being handled
+         */
+        public byte[] getResponse(){
+            return response;
+        }
+    }
+
+    private static class Key {
+        private final SocketAddress address;
+        private final long requestId;
+
+        private Key(SocketAddress address, long requestId){
+            this.address = address;
+            this.requestId = requestId;
+        }
+
+        @Override
+        public boolean equals(Object o){
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return requestId == key.requestId && address.equals(key.address);
+        }
+
+        @Override
+        public int hashCode(){
+            return Objects.hash(address, requestId);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.roomreservation.common;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.roomreservation.protobuf.protos.RequestBatch;
+import com.roomreservation.protobuf.protos.RequestObject;
+import com.roomreservation.protobuf.protos.ResponseBatch;
+import com.roomreservation.protobuf.protos.ResponseObject;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces concurrent requests to the same campus server. The first request to a server opens a
+ * short window, every request to that server arriving within the window is sent with it in a single
+ * RequestBatch datagram, and the ResponseBatch is split back to the individual callers.
+ */
+public class RequestCoalescer {
+    public static final int MAX_BATCH_SIZE = 8;
+
+    private final UdpClient udpClient;
+    private final long window;
+    private final HashMap<SocketAddress, List<PendingRequest>> batches = new HashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "request-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param udpClient UDP client used to send the batches
+     * @param window Time in milliseconds to wait for other requests before sending
+     */
+    public RequestCoalescer(UdpClient udpClient, long window){
+        this.udpClient = udpClient;
+        this.window = window;
+    }
+
+    /**
+     * Queues request to be sent with the next batch to the server
+     * @param address Remote server address
+     * @param requestObject Request object
+     * @param rttEstimator Round-trip time estimator of the server, sets the timeout from when the batch is sent
+     * @return Future completed with the response object
+     */
+    public CompletableFuture<ResponseObject> submit(SocketAddress address, RequestObject requestObject, RttEstimator rttEstimator){
+        PendingRequest pendingRequest = new PendingRequest(requestObject, rttEstimator);
+        List<PendingRequest> full = null;
+        synchronized (batches){
+            List<PendingRequest> batch = batches.get(address);
+            if (batch == null){
+                batch = new ArrayList<>();
+                batches.put(address, batch);
+                List<PendingRequest> scheduled = batch;
+                scheduler.schedule(() -> flush(address, scheduled), window, TimeUnit.MILLISECONDS);
+            }
+            batch.add(pendingRequest);
+            if (batch.size() >= MAX_BATCH_SIZE)
+                full = batch;
+        }
+        if (full != null)
+            flush(address, full);
+        return pendingRequest.future;
+    }
+
+    /**
+     * Sends batch if it has not already been sent
+     * @param address Remote server address
+     * @param batch Pending requests
+     */
+    private void flush(SocketAddress address, List<PendingRequest> batch){
+        synchronized (batches){
+            if (batches.get(address) != batch)
+                return;
+            batches.remove(address);
+        }
+        // Requests to the same server share its estimator
+        RttEstimator rttEstimator = batch.get(0).rttEstimator;
+
+        if (batch.size() == 1){
+            PendingRequest pendingRequest = batch.get(0);
+            udpClient.sendAsync(address, UdpFrame.SINGLE, pendingRequest.requestObject.toByteArray(), rttEstimator).whenComplete((reply, throwable) -> {
+                if (throwable != null)
+                    pendingRequest.future.completeExceptionally(throwable);
+                else {
+                    try {
+                        pendingRequest.future.complete(ResponseObject.parseFrom(reply));
+                    } catch (InvalidProtocolBufferException e){
+                        pendingRequest.future.completeExceptionally(e);
+                    }
+                }
+            });
+            return;
+        }
+
+        RequestBatch.Builder requestBatch = RequestBatch.newBuilder();
+        for (PendingRequest pendingRequest: batch)
+            requestBatch.addRequests(pendingRequest.requestObject);
+        udpClient.sendAsync(address, UdpFrame.BATCH, requestBatch.build().toByteArray(), rttEstimator).whenComplete((reply, throwable) -> {
+            try {
+                if (throwable != null)
+                    throw throwable;
+                ResponseBatch responseBatch = ResponseBatch.parseFrom(reply);
+                for (int i = 0; i < batch.size(); i++){
+                    if (i < responseBatch.getResponsesCount())
+                        batch.get(i).future.complete(responseBatch.getResponses(i));
+                    else
+                        batch.get(i).future.completeExceptionally(new InvalidProtocolBufferException("Missing response in batch"));
+                }
+            } catch (Throwable e){
+                for (PendingRequest pendingRequest: batch)
+                    pendingRequest.future.completeExceptionally(e);
+            }
+        });
+    }
+
+    private static class PendingRequest {
+        private final RequestObject requestObject;
+        private final RttEstimator rttEstimator;
+        private final CompletableFuture<ResponseObject> future = new CompletableFuture<>();
+
+        private PendingRequest(RequestObject requestObject, RttEstimator rttEstimator){
+            this.requestObject = requestObject;
+            this.rttEstimator = rttEstimator;
+        }
+    }
+}
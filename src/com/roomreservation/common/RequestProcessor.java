@@ -0,0 +1,80 @@
+package com.roomreservation.common;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded worker pool for incoming requests. When every worker is busy and the queue is full the
+ * request is rejected right away so that the caller can answer with a load-shedding response instead
+ * of creating more threads.
+ *
+ * Configured with the following system properties:
+ *   roomreservation.udp.workers  Number of worker threads (default: 2 x available processors)
+ *   roomreservation.udp.queue    Maximum number of queued requests (default: 1024)
+ */
+public class RequestProcessor {
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public RequestProcessor(String name){
+        this(name, Integer.getInteger("roomreservation.udp.workers", Runtime.getRuntime().availableProcessors() * 2),
+                Integer.getInteger("roomreservation.udp.queue", 1024));
+    }
+
+    public RequestProcessor(String name, int workers, int queueCapacity){
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, name + "-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        executor.prestartAllCoreThreads();
+    }
+
+    /**
+     * Queues request for processing
+     * @param request Request handler
+     * @return True if the request was accepted, false if it was rejected because the queue is full
+     */
+    public boolean submit(Runnable request){
+        try {
+            executor.execute(request);
+            return true;
+        } catch (RejectedExecutionException e){
+            rejectedCount.incrementAndGet();
+            return false;
+        }
+    }
+
+    public int getQueueDepth(){
+        return executor.getQueue().size();
+    }
+
+    public int getQueueCapacity(){
+        return queueCapacity;
+    }
+
+    public int getActiveCount(){
+        return executor.getActiveCount();
+    }
+
+    public long getCompletedCount(){
+        return executor.getCompletedTaskCount();
+    }
+
+    public long getRejectedCount(){
+        return rejectedCount.get();
+    }
+
+    @Override
+    public String toString(){
+        return "Queue depth: " + getQueueDepth() + "/" + queueCapacity + " | Active workers: " + getActiveCount()
+                + " | Completed: " + getCompletedCount() + " | Rejected: " + getRejectedCount();
+    }
+}
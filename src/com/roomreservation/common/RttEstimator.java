@@ -0,0 +1,176 @@
+package com.roomreservation.common;
+
+import java.util.Arrays;
+
+/**
+ * Round-trip time estimator for a single remote server. Keeps the smoothed round-trip time and its
+ * mean deviation the way TCP does (RFC 6298) and derives the retransmission delay and the overall
+ * request timeout from them, so that requests on a fast link time out quickly and requests on a
+ * slow link are not given up too early. Samples are only taken from requests that were sent
+ * once, as a reply to a retransmitted or hedged request cannot be matched to a specific transmission.
+ *
+ * When hedging is enabled the first retransmission is sent once the request has been waiting longer
+ * than the 95th percentile of recent round-trip times, cutting the tail latency caused by a slow or
+ * lost datagram. The hedged request reuses the request id, so the server answers it from its reply cache.
+ *
+ * Configured with the following system properties:
+ *   roomreservation.rtt.min     Minimum retransmission delay in milliseconds (default: 10)
+ *   roomreservation.rtt.max     Maximum request timeout in milliseconds (default: 1000)
+ *   roomreservation.udp.hedge   Send a hedged request after the 95th percentile (default: false)
+ */
+public class RttEstimator {
+    public static final int RETRANSMISSIONS = 3;
+    private static final int SAMPLE_WINDOW = 128;
+    private static final int PERCENTILE_REFRESH = 16;
+
+    private final long minDelay;
+    private final long maxTimeout;
+    private final boolean hedging;
+
+    // Microseconds
+    private long smoothedRtt = -1;
+    private long rttVariance;
+    private final long[] samples = new long[SAMPLE_WINDOW];
+    private int sampleCount = 0;
+    private long percentile95 = -1;
+    private int backoff = 1;
+
+    public RttEstimator(){
+        this(Long.getLong("roomreservation.rtt.min", 10), Long.getLong("roomreservation.rtt.max", 1000),
+                Boolean.getBoolean("roomreservation.udp.hedge"));
+    }
+
+    /**
+     * @param minDelay Minimum retransmission delay in milliseconds
+     * @param maxTimeout Maximum request timeout in milliseconds
+     * @param hedging True to send a hedged request after the 95th percentile
+     */
+    public RttEstimator(long minDelay, long maxTimeout, boolean hedging){
+        this.minDelay = minDelay;
+        this.maxTimeout = maxTimeout;
+        this.hedging = hedging;
+    }
+
+    /**
+     * Adds a round-trip time measurement
+     * @param rttNanos Round-trip time in nanoseconds
+     */
+    public synchronized void addSample(long rttNanos){
+        long rtt = Math.max(1, rttNanos / 1000);
+        if (smoothedRtt < 0){
+            smoothedRtt = rtt;
+            rttVariance = rtt / 2;
+        } else {
+            rttVariance += (Math.abs(smoothedRtt - rtt) - rttVariance) / 4;
+            smoothedRtt += (rtt - smoothedRtt) / 8;
+        }
+        samples[sampleCount % SAMPLE_WINDOW] = rtt;
+        sampleCount++;
+        if (sampleCount <= SAMPLE_WINDOW || sampleCount % PERCENTILE_REFRESH == 0)
+            percentile95 = -1;
+        backoff = 1;
+    }
+
+    /**
+     * Backs off the retransmission delay after a request timed out, until the next measurement
+     */
+    public synchronized void recordTimeout(){
+        if (getRetransmitTimeout() * backoff * 2 <= maxTimeout)
+            backoff *= 2;
+    }
+
+    /**
+     * Gets the delay before the first retransmission: the retransmission timeout, or the 95th
+     * percentile when hedging and it is shorter
+     * @return Delay in milliseconds
+     */
+    public synchronized long getRetransmitDelay(){
+        long delay = getRetransmitTimeout() * backoff;
+        if (hedging && smoothedRtt >= 0)
+            delay = Math.min(delay, Math.max(minDelay, toMillis(getPercentile95())));
+        return delay;
+    }
+
+    /**
+     * Gets the overall request timeout, long enough for the request and its retransmissions
+     * @return Timeout in milliseconds
+     */
+    public synchronized long getTimeout(){
+        if (smoothedRtt < 0)
+            return maxTimeout;
+        long timeout = getRetransmitTimeout() * backoff * ((1L << (RETRANSMISSIONS + 1)) - 1);
+        return Math.min(maxTimeout, timeout);
+    }
+
+    /**
+     * Gets the timeout of a request that is sent only once: the backed off retransmission timeout,
+     * or the maximum timeout before the first measurement
+     * @return Timeout in milliseconds
+     */
+    public synchronized long getAttemptTimeout(){
+        if (smoothedRtt < 0)
+            return maxTimeout;
+        return Math.min(maxTimeout, getRetransmitTimeout() * backoff);
+    }
+
+    /**
+     * Checks if a reply can be used as a sample. A hedged request is a retransmission like any other,
+     * the reply may answer either copy so it is not measured (Karn's algorithm)
+     * @param transmissions Number of times the request was sent
+     * @return True if the round-trip time can be measured
+     */
+    public boolean isSampleValid(int transmissions){
+        return transmissions == 1;
+    }
+
+    public boolean isHedging(){
+        return hedging;
+    }
+
+    /**
+     * @return Smoothed round-trip time in microseconds, -1 before the first measurement
+     */
+    public synchronized long getSmoothedRtt(){
+        return smoothedRtt;
+    }
+
+    /**
+     * @return Round-trip time mean deviation in microseconds
+     */
+    public synchronized long getRttVariance(){
+        return rttVariance;
+    }
+
+    /**
+     * @return Retransmission timeout in milliseconds (smoothed round-trip time plus four deviations)
+     */
+    private long getRetransmitTimeout(){
+        if (smoothedRtt < 0)
+            return UdpClient.INITIAL_RETRANSMIT_DELAY;
+        return Math.min(maxTimeout, Math.max(minDelay, toMillis(smoothedRtt + Math.max(1000, 4 * rttVariance))));
+    }
+
+    /**
+     * @return 95th percentile of the recent round-trip times in microseconds
+     */
+    private long getPercentile95(){
+        if (percentile95 < 0){
+            long[] sorted = Arrays.copyOf(samples, Math.min(sampleCount, SAMPLE_WINDOW));
+            Arrays.sort(sorted);
+            percentile95 = sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+        }
+        return percentile95;
+    }
+
+    private static long toMillis(long micros){
+        return (micros + 999) / 1000;
+    }
+
+    @Override
+    public synchronized String toString(){
+        if (smoothedRtt < 0)
+            return "No samples";
+        return "SRTT: " + smoothedRtt + "us | RTTVAR: " + rttVariance + "us | P95: " + getPercentile95()
+                + "us | Retransmit: " + getRetransmitDelay() + "ms | Timeout: " + getTimeout() + "ms";
+    }
+}
@@ -0,0 +1,66 @@
+package com.roomreservation.common;
+
+import com.roomreservation.protobuf.protos.ResponseObject;
+
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Sends the same request to every campus at once and collects the responses
+ */
+public class ScatterGather {
+    public static final long DEFAULT_DEADLINE = 2000;
+
+    private final ExecutorService executor;
+
+    public ScatterGather(){
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "scatter-gather");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Performs a non-blocking request on all campuses in parallel without holding any thread while
+     * waiting. A campus that does not answer before the deadline is given a failed response so that the
+     * other results are still returned. The returned future is completed on the gather pool, so that
+     * work chained to it does not run on the thread receiving the replies.
+     * @param request Function starting the request on a specific campus
+     * @param deadline Per-campus deadline in milliseconds
+     * @return Future completed with the response object for each campus
+     */
+    public CompletableFuture<EnumMap<Campus, ResponseObject>> gatherAsync(Function<Campus, CompletableFuture<ResponseObject>> request, long deadline){
+        EnumMap<Campus, CompletableFuture<ResponseObject>> futures = new EnumMap<>(Campus.class);
+        for (Campus campus: Campus.values()){
+            futures.put(campus, request.apply(campus)
+                    .completeOnTimeout(timeoutResponse(campus), deadline, TimeUnit.MILLISECONDS));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).thenApplyAsync(ignored -> {
+            EnumMap<Campus, ResponseObject> responses = new EnumMap<>(Campus.class);
+            for (Campus campus: Campus.values())
+                responses.put(campus, futures.get(campus).join());
+            return responses;
+        }, executor);
+    }
+
+    /**
+     * Builds response used when a campus misses its deadline
+     * @param campus Campus name (dvl, wst, kkl)
+     * @return Failed response object
+     */
+    private static ResponseObject timeoutResponse(Campus campus){
+        ResponseObject.Builder responseObject = ResponseObject.newBuilder();
+        responseObject.setDateTime(new Date().toString());
+        responseObject.setRequestType("");
+        responseObject.setRequestParameters("Campus: " + campus);
+        responseObject.setStatus(false);
+        responseObject.setMessage("Timed out waiting for remote server");
+        return responseObject.build();
+    }
+}
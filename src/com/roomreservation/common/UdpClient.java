@@ -0,0 +1,193 @@
+package com.roomreservation.common;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.roomreservation.common.ConsoleColours.ANSI_RED;
+import static com.roomreservation.common.ConsoleColours.RESET;
+
+/**
+ * Long-lived UDP client shared by all requests to other campus servers. Requests are sent over a
+ * single datagram channel and a receiver thread matches each reply to its request using the request id,
+ * so many requests can be in flight at once without opening a socket per request. Replies split into
+ * several fragments are reassembled before the request is completed.
+ *
+ * A request that is not answered is retransmitted with the same request id after an exponentially
+ * growing delay until its timeout expires. Servers remember the replies of requests that change state,
+ * so a retransmitted booking is answered with the original reply instead of being booked twice.
+ *
+ * Configured with the following system properties:
+ *   roomreservation.udp.retransmit  Delay in milliseconds before the first retransmission when the
+ *                                   round-trip time of the server is not known (default: 100)
+ */
+public class UdpClient {
+    public static final long INITIAL_RETRANSMIT_DELAY = Long.getLong("roomreservation.udp.retransmit", 100);
+
+    private final DatagramChannel channel;
+    private final ConcurrentHashMap<Long, PendingReply> pending = new ConcurrentHashMap<>();
+    private final AtomicLong nextRequestId = new AtomicLong(new Random().nextLong());
+    private final AtomicLong retransmitCount = new AtomicLong();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "udp-client-retransmit");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UdpClient() throws IOException {
+        channel = DatagramChannel.open();
+        channel.bind(null);
+        Thread receiver = new Thread(this::receive, "udp-client-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    /**
+     * Sends request without blocking, taking the timeout and retransmission delay from the round-trip
+     * time estimator of the remote server and feeding the measured round-trip time back to it
+     * @param address Remote server address
+     * @param type Frame type (SINGLE, BATCH)
+     * @param payload Protobuf payload
+     * @param rttEstimator Round-trip time estimator of the remote server
+     * @return Future completed with the reply payload, or exceptionally with a SocketTimeoutException
+     */
+    public CompletableFuture<byte[]> sendAsync(SocketAddress address, byte type, byte[] payload, RttEstimator rttEstimator){
+        long timeout = rttEstimator.getTimeout();
+        long requestId = nextRequestId.getAndIncrement();
+        CompletableFuture<byte[]> reply = new CompletableFuture<>();
+        AtomicInteger transmissions = new AtomicInteger(1);
+        long start = System.nanoTime();
+        pending.put(requestId, new PendingReply(reply));
+        reply.whenComplete((result, throwable) -> pending.remove(requestId));
+        try {
+            ByteBuffer frame = ByteBuffer.wrap(UdpFrame.encode(requestId, type, payload));
+            channel.send(frame.duplicate(), address);
+            retransmit(address, frame, reply, transmissions, rttEstimator.getRetransmitDelay(), System.currentTimeMillis() + timeout);
+        } catch (IOException | IllegalArgumentException e){
+            reply.completeExceptionally(e instanceof IOException ? e : new IOException(e.getMessage()));
+        }
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        reply.orTimeout(timeout, TimeUnit.MILLISECONDS).whenComplete((result, throwable) -> {
+            if (throwable instanceof TimeoutException){
+                rttEstimator.recordTimeout();
+                future.completeExceptionally(new SocketTimeoutException("Receive timed out"));
+            } else if (throwable != null)
+                future.completeExceptionally(throwable);
+            else {
+                if (rttEstimator.isSampleValid(transmissions.get()))
+                    rttEstimator.addSample(System.nanoTime() - start);
+                future.complete(result);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Schedules the next retransmission of a request, doubling the delay each time
+     * @param address Remote server address
+     * @param frame Framed request
+     * @param reply Reply future, retransmission stops once it is completed
+     * @param transmissions Number of times the request was sent
+     * @param delay Delay in milliseconds before retransmitting
+     * @param deadline Time after which the request times out
+     */
+    private void retransmit(SocketAddress address, ByteBuffer frame, CompletableFuture<byte[]> reply, AtomicInteger transmissions, long delay, long deadline){
+        if (delay <= 0 || System.currentTimeMillis() + delay >= deadline)
+            return;
+        scheduler.schedule(() -> {
+            if (reply.isDone())
+                return;
+            try {
+                channel.send(frame.duplicate(), address);
+                transmissions.incrementAndGet();
+                retransmitCount.incrementAndGet();
+                retransmit(address, frame, reply, transmissions, delay * 2, deadline);
+            } catch (IOException e){
+                reply.completeExceptionally(e);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    public long getRetransmitCount(){
+        return retransmitCount.get();
+    }
+
+    /**
+     * Receiver thread, completes pending requests as replies arrive
+     */
+    private void receive(){
+        ByteBuffer buffer = ByteBuffer.allocate(UdpFrame.MAX_DATAGRAM_SIZE);
+        while (true){
+            try {
+                buffer.clear();
+                channel.receive(buffer);
+                buffer.flip();
+                if (buffer.remaining() < UdpFrame.HEADER_SIZE)
+                    continue;
+                PendingReply pendingReply = pending.get(buffer.getLong());
+                buffer.get();
+                int index = buffer.getShort() & 0xFFFF;
+                int count = buffer.getShort() & 0xFFFF;
+                if (pendingReply != null && index < count){
+                    byte[] fragment = new byte[buffer.remaining()];
+                    buffer.get(fragment);
+                    pendingReply.add(index, count, fragment);
+                }
+            } catch (ClosedChannelException e){
+                return;
+            } catch (IOException e){
+                System.out.println(ANSI_RED + "IO: " + e.getMessage() + RESET);
+            }
+        }
+    }
+
+    /**
+     * Reply being received, only touched by the receiver thread
+     */
+    private static class PendingReply {
+        private final CompletableFuture<byte[]> future;
+        private byte[][] fragments;
+        private int received = 0;
+        private int size = 0;
+
+        private PendingReply(CompletableFuture<byte[]> future){
+            this.future = future;
+        }
+
+        private void add(int index, int count, byte[] fragment){
+            if (count == 1){
+                future.complete(fragment);
+                return;
+            }
+            if (fragments == null)
+                fragments = new byte[count][];
+            if (fragments.length != count || fragments[index] != null)
+                return;
+            fragments[index] = fragment;
+            received++;
+            size += fragment.length;
+            if (received == count){
+                byte[] reply = new byte[size];
+                int offset = 0;
+                for (byte[] part: fragments){
+                    System.arraycopy(part, 0, reply, offset, part.length);
+                    offset += part.length;
+                }
+                future.complete(reply);
+            }
+        }
+    }
+}
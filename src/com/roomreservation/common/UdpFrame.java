@@ -0,0 +1,60 @@
+package com.roomreservation.common;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Framing of datagrams exchanged between campus servers. Each datagram starts with a header
+ * holding the 8 byte request id chosen by the client, a 1 byte frame type and the 2 byte fragment
+ * index and fragment count, followed by the protobuf payload (or a slice of it). The server echoes
+ * the request id and type in its reply so that responses can be matched to requests. Replies larger
+ * than a single datagram are split into fragments that the client reassembles.
+ */
+public class UdpFrame {
+    public static final int HEADER_SIZE = 13;
+    public static final int MAX_DATAGRAM_SIZE = 1400;
+    public static final int MAX_PAYLOAD_SIZE = MAX_DATAGRAM_SIZE - HEADER_SIZE;
+    public static final int MAX_FRAGMENTS = 0xFFFF;
+
+    /* Frame types */
+    public static final byte SINGLE = 0;   // RequestObject / ResponseObject
+    public static final byte BATCH = 1;    // RequestBatch / ResponseBatch
+
+    /**
+     * Builds datagram data for a payload that fits in a single datagram
+     * @param requestId Request id
+     * @param type Frame type (SINGLE, BATCH)
+     * @param payload Protobuf payload
+     * @return Framed byte array
+     */
+    public static byte[] encode(long requestId, byte type, byte[] payload){
+        if (payload.length > MAX_PAYLOAD_SIZE)
+            throw new IllegalArgumentException("Payload too large for a single datagram (" + payload.length + " bytes)");
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length).putLong(requestId).put(type)
+                .putShort((short) 0).putShort((short) 1).put(payload).array();
+    }
+
+    /**
+     * Splits payload into as many datagrams as needed
+     * @param requestId Request id
+     * @param type Frame type (SINGLE, BATCH)
+     * @param payload Protobuf payload
+     * @return Framed datagrams, in order
+     */
+    public static List<ByteBuffer> encodeFragments(long requestId, byte type, byte[] payload){
+        int count = Math.max(1, (payload.length + MAX_PAYLOAD_SIZE - 1) / MAX_PAYLOAD_SIZE);
+        if (count > MAX_FRAGMENTS)
+            throw new IllegalArgumentException("Payload too large (" + payload.length + " bytes)");
+        List<ByteBuffer> fragments = new ArrayList<>(count);
+        for (int index = 0; index < count; index++){
+            int offset = index * MAX_PAYLOAD_SIZE;
+            int length = Math.min(MAX_PAYLOAD_SIZE, payload.length - offset);
+            ByteBuffer fragment = ByteBuffer.allocate(HEADER_SIZE + length).putLong(requestId).put(type)
+                    .putShort((short) index).putShort((short) count).put(payload, offset, length);
+            fragment.flip();
+            fragments.add(fragment);
+        }
+        return fragments;
+    }
+}
@@ -0,0 +1,1467 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: mutationRecord.proto
+
+package com.roomreservation.protobuf.protos;
+
+/**
+ * Protobuf type {@code com.roomreservation.collection.MutationRecord}
+ */
+public final class MutationRecord extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.roomreservation.collection.MutationRecord)
+    MutationRecordOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use MutationRecord.newBuilder() to construct.
+  private MutationRecord(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private MutationRecord() {
+    action_ = "";
+    date_ = "";
+    timeslot_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    identifier_ = "";
+    bookingId_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new MutationRecord();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private MutationRecord(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+            bitField0_ |= 0x00000001;
+            lsn_ = input.readInt64();
+            break;
+          }
+          case 18: {
+            com.google.protobuf.ByteString bs = input.readBytes();
+            bitField0_ |= 0x00000002;
+            action_ = bs;
+            break;
+          }
+          case 26: {
+            com.google.protobuf.ByteString bs = input.readBytes();
+            bitField0_ |= 0x00000004;
+            date_ = bs;
+            break;
+          }
+          case 32: {
+            bitField0_ |= 0x00000008;
+            roomNumber_ = input.readInt32();
+            break;
+          }
+          case 42: {
+            com.google.protobuf.ByteString bs = input.readBytes();
+            if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+              timeslot_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000010;
+            }
+            timeslot_.add(bs);
+            break;
+          }
+          case 50: {
+            com.google.protobuf.ByteString bs = input.readBytes();
+            bitField0_ |= 0x00000010;
+            identifier_ = bs;
+            break;
+          }
+          case 58: {
+            com.google.protobuf.ByteString bs = input.readBytes();
+            bitField0_ |= 0x00000020;
+            bookingId_ = bs;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000010) != 0)) {
+        timeslot_ = timeslot_.getUnmodifiableView();
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.roomreservation.protobuf.protos.MutationRecordProtos.internal_static_com_roomreservation_collection_MutationRecord_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.roomreservation.protobuf.protos.MutationRecordProtos.internal_static_com_roomreservation_collection_MutationRecord_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.roomreservation.protobuf.protos.MutationRecord.class, com.roomreservation.protobuf.protos.MutationRecord.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int LSN_FIELD_NUMBER = 1;
+  private long lsn_;
+  /**
+   * <code>required int64 lsn = 1;</code>
+   * @return Whether the lsn field is set.
+   */
+  @java.lang.Override
+  public boolean hasLsn() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <code>required int64 lsn = 1;</code>
+   * @return The lsn.
+   */
+  @java.lang.Override
+  public long getLsn() {
+    return lsn_;
+  }
+
+  public static final int ACTION_FIELD_NUMBER = 2;
+  private volatile java.lang.Object action_;
+  /**
+   * <code>required string action = 2;</code>
+   * @return Whether the action field is set.
+   */
+  @java.lang.Override
+  public boolean hasAction() {
+    return ((bitField0_ & 0x00000002) != 0);
+  }
+  /**
+   * <code>required string action = 2;</code>
+   * @return The action.
+   */
+  @java.lang.Override
+  public java.lang.String getAction() {
+    java.lang.Object ref = action_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        action_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string action = 2;</code>
+   * @return The bytes for action.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getActionBytes() {
+    java.lang.Object ref = action_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      action_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int DATE_FIELD_NUMBER = 3;
+  private volatile java.lang.Object date_;
+  /**
+   * <code>optional string date = 3;</code>
+   * @return Whether the date field is set.
+   */
+  @java.lang.Override
+  public boolean hasDate() {
+    return ((bitField0_ & 0x00000004) != 0);
+  }
+  /**
+   * <code>optional string date = 3;</code>
+   * @return The date.
+   */
+  @java.lang.Override
+  public java.lang.String getDate() {
+    java.lang.Object ref = date_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        date_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>optional string date = 3;</code>
+   * @return The bytes for date.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getDateBytes() {
+    java.lang.Object ref = date_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      date_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ROOMNUMBER_FIELD_NUMBER = 4;
+  private int roomNumber_;
+  /**
+   * <code>optional int32 roomNumber = 4;</code>
+   * @return Whether the roomNumber field is set.
+   */
+  @java.lang.Override
+  public boolean hasRoomNumber() {
+    return ((bitField0_ & 0x00000008) != 0);
+  }
+  /**
+   * <code>optional int32 roomNumber = 4;</code>
+   * @return The roomNumber.
+   */
+  @java.lang.Override
+  public int getRoomNumber() {
+    return roomNumber_;
+  }
+
+  public static final int TIMESLOT_FIELD_NUMBER = 5;
+  private com.google.protobuf.LazyStringList timeslot_;
+  /**
+   * <code>repeated string timeslot = 5;</code>
+   * @return A list containing the timeslot.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getTimeslotList() {
+    return timeslot_;
+  }
+  /**
+   * <code>repeated string timeslot = 5;</code>
+   * @return The count of timeslot.
+   */
+  public int getTimeslotCount() {
+    return timeslot_.size();
+  }
+  /**
+   * <code>repeated string timeslot = 5;</code>
+   * @param index The index of the element to return.
+   * @return The timeslot at the given index.
+   */
+  public java.lang.String getTimeslot(int index) {
+    return timeslot_.get(index);
+  }
+  /**
+   * <code>repeated string timeslot = 5;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the timeslot at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getTimeslotBytes(int index) {
+    return timeslot_.getByteString(index);
+  }
+
+  public static final int IDENTIFIER_FIELD_NUMBER = 6;
+  private volatile java.lang.Object identifier_;
+  /**
+   * <code>optional string identifier = 6;</code>
+   * @return Whether the identifier field is set.
+   */
+  @java.lang.Override
+  public boolean hasIdentifier() {
+    return ((bitField0_ & 0x00000010) != 0);
+  }
+  /**
+   * <code>optional string identifier = 6;</code>
+   * @return The identifier.
+   */
+  @java.lang.Override
+  public java.lang.String getIdentifier() {
+    java.lang.Object ref = identifier_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        identifier_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>optional string identifier = 6;</code>
+   * @return The bytes for identifier.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getIdentifierBytes() {
+    java.lang.Object ref = identifier_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      identifier_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int BOOKINGID_FIELD_NUMBER = 7;
+  private volatile java.lang.Object bookingId_;
+  /**
+   * <code>optional string bookingId = 7;</code>
+   * @return Whether the bookingId field is set.
+   */
+  @java.lang.Override
+  public boolean hasBookingId() {
+    return ((bitField0_ & 0x00000020) != 0);
+  }
+  /**
+   * <code>optional string bookingId = 7;</code>
+   * @return The bookingId.
+   */
+  @java.lang.Override
+  public java.lang.String getBookingId() {
+    java.lang.Object ref = bookingId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        bookingId_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>optional string bookingId = 7;</code>
+   * @return The bytes for bookingId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getBookingIdBytes() {
+    java.lang.Object ref = bookingId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      bookingId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    if (!hasLsn()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasAction()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeInt64(1, lsn_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, action_);
+    }
+    if (((bitField0_ & 0x00000004) != 0)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, date_);
+    }
+    if (((bitField0_ & 0x00000008) != 0)) {
+      output.writeInt32(4, roomNumber_);
+    }
+    for (int i = 0; i < timeslot_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, timeslot_.getRaw(i));
+    }
+    if (((bitField0_ & 0x00000010) != 0)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 6, identifier_);
+    }
+    if (((bitField0_ & 0x00000020) != 0)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 7, bookingId_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, lsn_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, action_);
+    }
+    if (((bitField0_ & 0x00000004) != 0)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, date_);
+    }
+    if (((bitField0_ & 0x00000008) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(4, roomNumber_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < timeslot_.size(); i++) {
+        dataSize += computeStringSizeNoTag(timeslot_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getTimeslotList().size();
+    }
+    if (((bitField0_ & 0x00000010) != 0)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, identifier_);
+    }
+    if (((bitField0_ & 0x00000020) != 0)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, bookingId_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.roomreservation.protobuf.protos.MutationRecord)) {
+      return super.equals(obj);
+    }
+    com.roomreservation.protobuf.protos.MutationRecord other = (com.roomreservation.protobuf.protos.MutationRecord) obj;
+
+    if (hasLsn() != other.hasLsn()) return false;
+    if (hasLsn()) {
+      if (getLsn()
+          != other.getLsn()) return false;
+    }
+    if (hasAction() != other.hasAction()) return false;
+    if (hasAction()) {
+      if (!getAction()
+          .equals(other.getAction())) return false;
+    }
+    if (hasDate() != other.hasDate()) return false;
+    if (hasDate()) {
+      if (!getDate()
+          .equals(other.getDate())) return false;
+    }
+    if (hasRoomNumber() != other.hasRoomNumber()) return false;
+    if (hasRoomNumber()) {
+      if (getRoomNumber()
+          != other.getRoomNumber()) return false;
+    }
+    if (!getTimeslotList()
+        .equals(other.getTimeslotList())) return false;
+    if (hasIdentifier() != other.hasIdentifier()) return false;
+    if (hasIdentifier()) {
+      if (!getIdentifier()
+          .equals(other.getIdentifier())) return false;
+    }
+    if (hasBookingId() != other.hasBookingId()) return false;
+    if (hasBookingId()) {
+      if (!getBookingId()
+          .equals(other.getBookingId())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasLsn()) {
+      hash = (37 * hash) + LSN_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLsn());
+    }
+    if (hasAction()) {
+      hash = (37 * hash) + ACTION_FIELD_NUMBER;
+      hash = (53 * hash) + getAction().hashCode();
+    }
+    if (hasDate()) {
+      hash = (37 * hash) + DATE_FIELD_NUMBER;
+      hash = (53 * hash) + getDate().hashCode();
+    }
+    if (hasRoomNumber()) {
+      hash = (37 * hash) + ROOMNUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + getRoomNumber();
+    }
+    if (getTimeslotCount() > 0) {
+      hash = (37 * hash) + TIMESLOT_FIELD_NUMBER;
+      hash = (53 * hash) + getTimeslotList().hashCode();
+    }
+    if (hasIdentifier()) {
+      hash = (37 * hash) + IDENTIFIER_FIELD_NUMBER;
+      hash = (53 * hash) + getIdentifier().hashCode();
+    }
+    if (hasBookingId()) {
+      hash = (37 * hash) + BOOKINGID_FIELD_NUMBER;
+      hash = (53 * hash) + getBookingId().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.roomreservation.protobuf.protos.MutationRecord parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.roomreservation.protobuf.protos.MutationRecord parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.MutationRecord parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.roomreservation.protobuf.protos.MutationRecord parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.MutationRecord parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.roomreservation.protobuf.protos.MutationRecord parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.MutationRecord parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.roomreservation.protobuf.protos.MutationRecord parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.MutationRecord parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.roomreservation.protobuf.protos.MutationRecord parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.MutationRecord parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.roomreservation.protobuf.protos.MutationRecord parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.roomreservation.protobuf.protos.MutationRecord prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code com.roomreservation.collection.MutationRecord}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.roomreservation.collection.MutationRecord)
+      com.roomreservation.protobuf.protos.MutationRecordOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.roomreservation.protobuf.protos.MutationRecordProtos.internal_static_com_roomreservation_collection_MutationRecord_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.roomreservation.protobuf.protos.MutationRecordProtos.internal_static_com_roomreservation_collection_MutationRecord_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.roomreservation.protobuf.protos.MutationRecord.class, com.roomreservation.protobuf.protos.MutationRecord.Builder.class);
+    }
+
+    // Construct using com.roomreservation.protobuf.protos.MutationRecord.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      lsn_ = 0L;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      action_ = "";
+      bitField0_ = (bitField0_ & ~0x00000002);
+      date_ = "";
+      bitField0_ = (bitField0_ & ~0x00000004);
+      roomNumber_ = 0;
+      bitField0_ = (bitField0_ & ~0x00000008);
+      timeslot_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000010);
+      identifier_ = "";
+      bitField0_ = (bitField0_ & ~0x00000020);
+      bookingId_ = "";
+      bitField0_ = (bitField0_ & ~0x00000040);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.roomreservation.protobuf.protos.MutationRecordProtos.internal_static_com_roomreservation_collection_MutationRecord_descriptor;
+    }
+
+    @java.lang.Override
+    public com.roomreservation.protobuf.protos.MutationRecord getDefaultInstanceForType() {
+      return com.roomreservation.protobuf.protos.MutationRecord.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.roomreservation.protobuf.protos.MutationRecord build() {
+      com.roomreservation.protobuf.protos.MutationRecord result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.roomreservation.protobuf.protos.MutationRecord buildPartial() {
+      com.roomreservation.protobuf.protos.MutationRecord result = new com.roomreservation.protobuf.protos.MutationRecord(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.lsn_ = lsn_;
+        to_bitField0_ |= 0x00000001;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        to_bitField0_ |= 0x00000002;
+      }
+      result.action_ = action_;
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        to_bitField0_ |= 0x00000004;
+      }
+      result.date_ = date_;
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.roomNumber_ = roomNumber_;
+        to_bitField0_ |= 0x00000008;
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        timeslot_ = timeslot_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000010);
+      }
+      result.timeslot_ = timeslot_;
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        to_bitField0_ |= 0x00000010;
+      }
+      result.identifier_ = identifier_;
+      if (((from_bitField0_ & 0x00000040) != 0)) {
+        to_bitField0_ |= 0x00000020;
+      }
+      result.bookingId_ = bookingId_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.roomreservation.protobuf.protos.MutationRecord) {
+        return mergeFrom((com.roomreservation.protobuf.protos.MutationRecord)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.roomreservation.protobuf.protos.MutationRecord other) {
+      if (other == com.roomreservation.protobuf.protos.MutationRecord.getDefaultInstance()) return this;
+      if (other.hasLsn()) {
+        setLsn(other.getLsn());
+      }
+      if (other.hasAction()) {
+        bitField0_ |= 0x00000002;
+        action_ = other.action_;
+        onChanged();
+      }
+      if (other.hasDate()) {
+        bitField0_ |= 0x00000004;
+        date_ = other.date_;
+        onChanged();
+      }
+      if (other.hasRoomNumber()) {
+        setRoomNumber(other.getRoomNumber());
+      }
+      if (!other.timeslot_.isEmpty()) {
+        if (timeslot_.isEmpty()) {
+          timeslot_ = other.timeslot_;
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          ensureTimeslotIsMutable();
+          timeslot_.addAll(other.timeslot_);
+        }
+        onChanged();
+      }
+      if (other.hasIdentifier()) {
+        bitField0_ |= 0x00000020;
+        identifier_ = other.identifier_;
+        onChanged();
+      }
+      if (other.hasBookingId()) {
+        bitField0_ |= 0x00000040;
+        bookingId_ = other.bookingId_;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      if (!hasLsn()) {
+        return false;
+      }
+      if (!hasAction()) {
+        return false;
+      }
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.roomreservation.protobuf.protos.MutationRecord parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.roomreservation.protobuf.protos.MutationRecord) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private long lsn_ ;
+    /**
+     * <code>required int64 lsn = 1;</code>
+     * @return Whether the lsn field is set.
+     */
+    @java.lang.Override
+    public boolean hasLsn() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required int64 lsn = 1;</code>
+     * @return The lsn.
+     */
+    @java.lang.Override
+    public long getLsn() {
+      return lsn_;
+    }
+    /**
+     * <code>required int64 lsn = 1;</code>
+     * @param value The lsn to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLsn(long value) {
+      bitField0_ |= 0x00000001;
+      lsn_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int64 lsn = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearLsn() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      lsn_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object action_ = "";
+    /**
+     * <code>required string action = 2;</code>
+     * @return Whether the action field is set.
+     */
+    public boolean hasAction() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required string action = 2;</code>
+     * @return The action.
+     */
+    public java.lang.String getAction() {
+      java.lang.Object ref = action_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          action_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string action = 2;</code>
+     * @return The bytes for action.
+     */
+    public com.google.protobuf.ByteString
+        getActionBytes() {
+      java.lang.Object ref = action_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        action_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string action = 2;</code>
+     * @param value The action to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAction(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+      action_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string action = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAction() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      action_ = getDefaultInstance().getAction();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string action = 2;</code>
+     * @param value The bytes for action to set.
+     * @return This builder for chaining.
+     */
+    public Builder setActionBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+      action_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object date_ = "";
+    /**
+     * <code>optional string date = 3;</code>
+     * @return Whether the date field is set.
+     */
+    public boolean hasDate() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string date = 3;</code>
+     * @return The date.
+     */
+    public java.lang.String getDate() {
+      java.lang.Object ref = date_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          date_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string date = 3;</code>
+     * @return The bytes for date.
+     */
+    public com.google.protobuf.ByteString
+        getDateBytes() {
+      java.lang.Object ref = date_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        date_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string date = 3;</code>
+     * @param value The date to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDate(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+      date_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string date = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearDate() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      date_ = getDefaultInstance().getDate();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string date = 3;</code>
+     * @param value The bytes for date to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDateBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+      date_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int roomNumber_ ;
+    /**
+     * <code>optional int32 roomNumber = 4;</code>
+     * @return Whether the roomNumber field is set.
+     */
+    @java.lang.Override
+    public boolean hasRoomNumber() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int32 roomNumber = 4;</code>
+     * @return The roomNumber.
+     */
+    @java.lang.Override
+    public int getRoomNumber() {
+      return roomNumber_;
+    }
+    /**
+     * <code>optional int32 roomNumber = 4;</code>
+     * @param value The roomNumber to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRoomNumber(int value) {
+      bitField0_ |= 0x00000008;
+      roomNumber_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 roomNumber = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRoomNumber() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      roomNumber_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringList timeslot_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureTimeslotIsMutable() {
+      if (!((bitField0_ & 0x00000010) != 0)) {
+        timeslot_ = new com.google.protobuf.LazyStringArrayList(timeslot_);
+        bitField0_ |= 0x00000010;
+       }
+    }
+    /**
+     * <code>repeated string timeslot = 5;</code>
+     * @return A list containing the timeslot.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getTimeslotList() {
+      return timeslot_.getUnmodifiableView();
+    }
+    /**
+     * <code>repeated string timeslot = 5;</code>
+     * @return The count of timeslot.
+     */
+    public int getTimeslotCount() {
+      return timeslot_.size();
+    }
+    /**
+     * <code>repeated string timeslot = 5;</code>
+     * @param index The index of the element to return.
+     * @return The timeslot at the given index.
+     */
+    public java.lang.String getTimeslot(int index) {
+      return timeslot_.get(index);
+    }
+    /**
+     * <code>repeated string timeslot = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the timeslot at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getTimeslotBytes(int index) {
+      return timeslot_.getByteString(index);
+    }
+    /**
+     * <code>repeated string timeslot = 5;</code>
+     * @param index The index to set the value at.
+     * @param value The timeslot to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTimeslot(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureTimeslotIsMutable();
+      timeslot_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string timeslot = 5;</code>
+     * @param value The timeslot to add.
+     * @return This builder for chaining.
+     */
+    public Builder addTimeslot(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureTimeslotIsMutable();
+      timeslot_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string timeslot = 5;</code>
+     * @param values The timeslot to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllTimeslot(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureTimeslotIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, timeslot_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string timeslot = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTimeslot() {
+      timeslot_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000010);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string timeslot = 5;</code>
+     * @param value The bytes of the timeslot to add.
+     * @return This builder for chaining.
+     */
+    public Builder addTimeslotBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureTimeslotIsMutable();
+      timeslot_.add(value);
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object identifier_ = "";
+    /**
+     * <code>optional string identifier = 6;</code>
+     * @return Whether the identifier field is set.
+     */
+    public boolean hasIdentifier() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional string identifier = 6;</code>
+     * @return The identifier.
+     */
+    public java.lang.String getIdentifier() {
+      java.lang.Object ref = identifier_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          identifier_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string identifier = 6;</code>
+     * @return The bytes for identifier.
+     */
+    public com.google.protobuf.ByteString
+        getIdentifierBytes() {
+      java.lang.Object ref = identifier_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        identifier_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string identifier = 6;</code>
+     * @param value The identifier to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIdentifier(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+      identifier_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string identifier = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearIdentifier() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      identifier_ = getDefaultInstance().getIdentifier();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string identifier = 6;</code>
+     * @param value The bytes for identifier to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIdentifierBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+      identifier_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object bookingId_ = "";
+    /**
+     * <code>optional string bookingId = 7;</code>
+     * @return Whether the bookingId field is set.
+     */
+    public boolean hasBookingId() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional string bookingId = 7;</code>
+     * @return The bookingId.
+     */
+    public java.lang.String getBookingId() {
+      java.lang.Object ref = bookingId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          bookingId_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string bookingId = 7;</code>
+     * @return The bytes for bookingId.
+     */
+    public com.google.protobuf.ByteString
+        getBookingIdBytes() {
+      java.lang.Object ref = bookingId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        bookingId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string bookingId = 7;</code>
+     * @param value The bookingId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBookingId(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+      bookingId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string bookingId = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearBookingId() {
+      bitField0_ = (bitField0_ & ~0x00000040);
+      bookingId_ = getDefaultInstance().getBookingId();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string bookingId = 7;</code>
+     * @param value The bytes for bookingId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBookingIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+      bookingId_ = value;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.roomreservation.collection.MutationRecord)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.roomreservation.collection.MutationRecord)
+  private static final com.roomreservation.protobuf.protos.MutationRecord DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.roomreservation.protobuf.protos.MutationRecord();
+  }
+
+  public static com.roomreservation.protobuf.protos.MutationRecord getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  @java.lang.Deprecated public static final com.google.protobuf.Parser<MutationRecord>
+      PARSER = new com.google.protobuf.AbstractParser<MutationRecord>() {
+    @java.lang.Override
+    public MutationRecord parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new MutationRecord(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<MutationRecord> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<MutationRecord> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.roomreservation.protobuf.protos.MutationRecord getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,124 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: mutationRecord.proto
+
+package com.roomreservation.protobuf.protos;
+
+public interface MutationRecordOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.roomreservation.collection.MutationRecord)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>required int64 lsn = 1;</code>
+   * @return Whether the lsn field is set.
+   */
+  boolean hasLsn();
+  /**
+   * <code>required int64 lsn = 1;</code>
+   * @return The lsn.
+   */
+  long getLsn();
+
+  /**
+   * <code>required string action = 2;</code>
+   * @return Whether the action field is set.
+   */
+  boolean hasAction();
+  /**
+   * <code>required string action = 2;</code>
+   * @return The action.
+   */
+  java.lang.String getAction();
+  /**
+   * <code>required string action = 2;</code>
+   * @return The bytes for action.
+   */
+  com.google.protobuf.ByteString
+      getActionBytes();
+
+  /**
+   * <code>optional string date = 3;</code>
+   * @return Whether the date field is set.
+   */
+  boolean hasDate();
+  /**
+   * <code>optional string date = 3;</code>
+   * @return The date.
+   */
+  java.lang.String getDate();
+  /**
+   * <code>optional string date = 3;</code>
+   * @return The bytes for date.
+   */
+  com.google.protobuf.ByteString
+      getDateBytes();
+
+  /**
+   * <code>optional int32 roomNumber = 4;</code>
+   * @return Whether the roomNumber field is set.
+   */
+  boolean hasRoomNumber();
+  /**
+   * <code>optional int32 roomNumber = 4;</code>
+   * @return The roomNumber.
+   */
+  int getRoomNumber();
+
+  /**
+   * <code>repeated string timeslot = 5;</code>
+   * @return A list containing the timeslot.
+   */
+  java.util.List<java.lang.String>
+      getTimeslotList();
+  /**
+   * <code>repeated string timeslot = 5;</code>
+   * @return The count of timeslot.
+   */
+  int getTimeslotCount();
+  /**
+   * <code>repeated string timeslot = 5;</code>
+   * @param index The index of the element to return.
+   * @return The timeslot at the given index.
+   */
+  java.lang.String getTimeslot(int index);
+  /**
+   * <code>repeated string timeslot = 5;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the timeslot at the given index.
+   */
+  com.google.protobuf.ByteString
+      getTimeslotBytes(int index);
+
+  /**
+   * <code>optional string identifier = 6;</code>
+   * @return Whether the identifier field is set.
+   */
+  boolean hasIdentifier();
+  /**
+   * <code>optional string identifier = 6;</code>
+   * @return The identifier.
+   */
+  java.lang.String getIdentifier();
+  /**
+   * <code>optional string identifier = 6;</code>
+   * @return The bytes for identifier.
+   */
+  com.google.protobuf.ByteString
+      getIdentifierBytes();
+
+  /**
+   * <code>optional string bookingId = 7;</code>
+   * @return Whether the bookingId field is set.
+   */
+  boolean hasBookingId();
+  /**
+   * <code>optional string bookingId = 7;</code>
+   * @return The bookingId.
+   */
+  java.lang.String getBookingId();
+  /**
+   * <code>optional string bookingId = 7;</code>
+   * @return The bytes for bookingId.
+   */
+  com.google.protobuf.ByteString
+      getBookingIdBytes();
+}
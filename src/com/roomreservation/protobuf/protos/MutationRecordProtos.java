@@ -0,0 +1,52 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: mutationRecord.proto
+
+package com.roomreservation.protobuf.protos;
+
+public final class MutationRecordProtos {
+  private MutationRecordProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_roomreservation_collection_MutationRecord_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_roomreservation_collection_MutationRecord_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\024mutationRecord.proto\022\036com.roomreservat" +
+      "ion.collection\"\210\001\n\016MutationRecord\022\013\n\003lsn" +
+      "\030\001 \002(\003\022\016\n\006action\030\002 \002(\t\022\014\n\004date\030\003 \001(\t\022\022\n\n" +
+      "roomNumber\030\004 \001(\005\022\020\n\010timeslot\030\005 \003(\t\022\022\n\nid" +
+      "entifier\030\006 \001(\t\022\021\n\tbookingId\030\007 \001(\tB=\n#com" +
+      ".roomreservation.protobuf.protosB\024Mutati" +
+      "onRecordProtosP\001"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_com_roomreservation_collection_MutationRecord_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_com_roomreservation_collection_MutationRecord_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_roomreservation_collection_MutationRecord_descriptor,
+        new java.lang.String[] { "Lsn", "Action", "Date", "RoomNumber", "Timeslot", "Identifier", "BookingId", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,781 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: requestBatch.proto
+
+package com.roomreservation.protobuf.protos;
+
+/**
+ * Protobuf type {@code com.roomreservation.collection.RequestBatch}
+ */
+public final class RequestBatch extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.roomreservation.collection.RequestBatch)
+    RequestBatchOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use RequestBatch.newBuilder() to construct.
+  private RequestBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RequestBatch() {
+    requests_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new RequestBatch();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private RequestBatch(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              requests_ = new java.util.ArrayList<com.roomreservation.protobuf.protos.RequestObject>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            requests_.add(
+                input.readMessage(com.roomreservation.protobuf.protos.RequestObject.PARSER, extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        requests_ = java.util.Collections.unmodifiableList(requests_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.roomreservation.protobuf.protos.RequestBatchProtos.internal_static_com_roomreservation_collection_RequestBatch_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.roomreservation.protobuf.protos.RequestBatchProtos.internal_static_com_roomreservation_collection_RequestBatch_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.roomreservation.protobuf.protos.RequestBatch.class, com.roomreservation.protobuf.protos.RequestBatch.Builder.class);
+  }
+
+  public static final int REQUESTS_FIELD_NUMBER = 1;
+  private java.util.List<com.roomreservation.protobuf.protos.RequestObject> requests_;
+  /**
+   * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.roomreservation.protobuf.protos.RequestObject> getRequestsList() {
+    return requests_;
+  }
+  /**
+   * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.roomreservation.protobuf.protos.RequestObjectOrBuilder> 
+      getRequestsOrBuilderList() {
+    return requests_;
+  }
+  /**
+   * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+   */
+  @java.lang.Override
+  public int getRequestsCount() {
+    return requests_.size();
+  }
+  /**
+   * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+   */
+  @java.lang.Override
+  public com.roomreservation.protobuf.protos.RequestObject getRequests(int index) {
+    return requests_.get(index);
+  }
+  /**
+   * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+   */
+  @java.lang.Override
+  public com.roomreservation.protobuf.protos.RequestObjectOrBuilder getRequestsOrBuilder(
+      int index) {
+    return requests_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    for (int i = 0; i < getRequestsCount(); i++) {
+      if (!getRequests(i).isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+    }
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < requests_.size(); i++) {
+      output.writeMessage(1, requests_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < requests_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, requests_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.roomreservation.protobuf.protos.RequestBatch)) {
+      return super.equals(obj);
+    }
+    com.roomreservation.protobuf.protos.RequestBatch other = (com.roomreservation.protobuf.protos.RequestBatch) obj;
+
+    if (!getRequestsList()
+        .equals(other.getRequestsList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getRequestsCount() > 0) {
+      hash = (37 * hash) + REQUESTS_FIELD_NUMBER;
+      hash = (53 * hash) + getRequestsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.roomreservation.protobuf.protos.RequestBatch parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.roomreservation.protobuf.protos.RequestBatch parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.RequestBatch parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.roomreservation.protobuf.protos.RequestBatch parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.RequestBatch parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.roomreservation.protobuf.protos.RequestBatch parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.RequestBatch parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.roomreservation.protobuf.protos.RequestBatch parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.RequestBatch parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.roomreservation.protobuf.protos.RequestBatch parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.RequestBatch parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.roomreservation.protobuf.protos.RequestBatch parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.roomreservation.protobuf.protos.RequestBatch prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code com.roomreservation.collection.RequestBatch}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.roomreservation.collection.RequestBatch)
+      com.roomreservation.protobuf.protos.RequestBatchOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.roomreservation.protobuf.protos.RequestBatchProtos.internal_static_com_roomreservation_collection_RequestBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.roomreservation.protobuf.protos.RequestBatchProtos.internal_static_com_roomreservation_collection_RequestBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.roomreservation.protobuf.protos.RequestBatch.class, com.roomreservation.protobuf.protos.RequestBatch.Builder.class);
+    }
+
+    // Construct using com.roomreservation.protobuf.protos.RequestBatch.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getRequestsFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (requestsBuilder_ == null) {
+        requests_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        requestsBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.roomreservation.protobuf.protos.RequestBatchProtos.internal_static_com_roomreservation_collection_RequestBatch_descriptor;
+    }
+
+    @java.lang.Override
+    public com.roomreservation.protobuf.protos.RequestBatch getDefaultInstanceForType() {
+      return com.roomreservation.protobuf.protos.RequestBatch.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.roomreservation.protobuf.protos.RequestBatch build() {
+      com.roomreservation.protobuf.protos.RequestBatch result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.roomreservation.protobuf.protos.RequestBatch buildPartial() {
+      com.roomreservation.protobuf.protos.RequestBatch result = new com.roomreservation.protobuf.protos.RequestBatch(this);
+      int from_bitField0_ = bitField0_;
+      if (requestsBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          requests_ = java.util.Collections.unmodifiableList(requests_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.requests_ = requests_;
+      } else {
+        result.requests_ = requestsBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.roomreservation.protobuf.protos.RequestBatch) {
+        return mergeFrom((com.roomreservation.protobuf.protos.RequestBatch)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.roomreservation.protobuf.protos.RequestBatch other) {
+      if (other == com.roomreservation.protobuf.protos.RequestBatch.getDefaultInstance()) return this;
+      if (requestsBuilder_ == null) {
+        if (!other.requests_.isEmpty()) {
+          if (requests_.isEmpty()) {
+            requests_ = other.requests_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureRequestsIsMutable();
+            requests_.addAll(other.requests_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.requests_.isEmpty()) {
+          if (requestsBuilder_.isEmpty()) {
+            requestsBuilder_.dispose();
+            requestsBuilder_ = null;
+            requests_ = other.requests_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            requestsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getRequestsFieldBuilder() : null;
+          } else {
+            requestsBuilder_.addAllMessages(other.requests_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      for (int i = 0; i < getRequestsCount(); i++) {
+        if (!getRequests(i).isInitialized()) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.roomreservation.protobuf.protos.RequestBatch parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.roomreservation.protobuf.protos.RequestBatch) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.roomreservation.protobuf.protos.RequestObject> requests_ =
+      java.util.Collections.emptyList();
+    private void ensureRequestsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        requests_ = new java.util.ArrayList<com.roomreservation.protobuf.protos.RequestObject>(requests_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.roomreservation.protobuf.protos.RequestObject, com.roomreservation.protobuf.protos.RequestObject.Builder, com.roomreservation.protobuf.protos.RequestObjectOrBuilder> requestsBuilder_;
+
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public java.util.List<com.roomreservation.protobuf.protos.RequestObject> getRequestsList() {
+      if (requestsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(requests_);
+      } else {
+        return requestsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public int getRequestsCount() {
+      if (requestsBuilder_ == null) {
+        return requests_.size();
+      } else {
+        return requestsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public com.roomreservation.protobuf.protos.RequestObject getRequests(int index) {
+      if (requestsBuilder_ == null) {
+        return requests_.get(index);
+      } else {
+        return requestsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public Builder setRequests(
+        int index, com.roomreservation.protobuf.protos.RequestObject value) {
+      if (requestsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRequestsIsMutable();
+        requests_.set(index, value);
+        onChanged();
+      } else {
+        requestsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public Builder setRequests(
+        int index, com.roomreservation.protobuf.protos.RequestObject.Builder builderForValue) {
+      if (requestsBuilder_ == null) {
+        ensureRequestsIsMutable();
+        requests_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        requestsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public Builder addRequests(com.roomreservation.protobuf.protos.RequestObject value) {
+      if (requestsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRequestsIsMutable();
+        requests_.add(value);
+        onChanged();
+      } else {
+        requestsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public Builder addRequests(
+        int index, com.roomreservation.protobuf.protos.RequestObject value) {
+      if (requestsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRequestsIsMutable();
+        requests_.add(index, value);
+        onChanged();
+      } else {
+        requestsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public Builder addRequests(
+        com.roomreservation.protobuf.protos.RequestObject.Builder builderForValue) {
+      if (requestsBuilder_ == null) {
+        ensureRequestsIsMutable();
+        requests_.add(builderForValue.build());
+        onChanged();
+      } else {
+        requestsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public Builder addRequests(
+        int index, com.roomreservation.protobuf.protos.RequestObject.Builder builderForValue) {
+      if (requestsBuilder_ == null) {
+        ensureRequestsIsMutable();
+        requests_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        requestsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public Builder addAllRequests(
+        java.lang.Iterable<? extends com.roomreservation.protobuf.protos.RequestObject> values) {
+      if (requestsBuilder_ == null) {
+        ensureRequestsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, requests_);
+        onChanged();
+      } else {
+        requestsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public Builder clearRequests() {
+      if (requestsBuilder_ == null) {
+        requests_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        requestsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public Builder removeRequests(int index) {
+      if (requestsBuilder_ == null) {
+        ensureRequestsIsMutable();
+        requests_.remove(index);
+        onChanged();
+      } else {
+        requestsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public com.roomreservation.protobuf.protos.RequestObject.Builder getRequestsBuilder(
+        int index) {
+      return getRequestsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public com.roomreservation.protobuf.protos.RequestObjectOrBuilder getRequestsOrBuilder(
+        int index) {
+      if (requestsBuilder_ == null) {
+        return requests_.get(index);  } else {
+        return requestsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public java.util.List<? extends com.roomreservation.protobuf.protos.RequestObjectOrBuilder> 
+         getRequestsOrBuilderList() {
+      if (requestsBuilder_ != null) {
+        return requestsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(requests_);
+      }
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public com.roomreservation.protobuf.protos.RequestObject.Builder addRequestsBuilder() {
+      return getRequestsFieldBuilder().addBuilder(
+          com.roomreservation.protobuf.protos.RequestObject.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public com.roomreservation.protobuf.protos.RequestObject.Builder addRequestsBuilder(
+        int index) {
+      return getRequestsFieldBuilder().addBuilder(
+          index, com.roomreservation.protobuf.protos.RequestObject.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+     */
+    public java.util.List<com.roomreservation.protobuf.protos.RequestObject.Builder> 
+         getRequestsBuilderList() {
+      return getRequestsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.roomreservation.protobuf.protos.RequestObject, com.roomreservation.protobuf.protos.RequestObject.Builder, com.roomreservation.protobuf.protos.RequestObjectOrBuilder> 
+        getRequestsFieldBuilder() {
+      if (requestsBuilder_ == null) {
+        requestsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.roomreservation.protobuf.protos.RequestObject, com.roomreservation.protobuf.protos.RequestObject.Builder, com.roomreservation.protobuf.protos.RequestObjectOrBuilder>(
+                requests_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        requests_ = null;
+      }
+      return requestsBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.roomreservation.collection.RequestBatch)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.roomreservation.collection.RequestBatch)
+  private static final com.roomreservation.protobuf.protos.RequestBatch DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.roomreservation.protobuf.protos.RequestBatch();
+  }
+
+  public static com.roomreservation.protobuf.protos.RequestBatch getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  @java.lang.Deprecated public static final com.google.protobuf.Parser<RequestBatch>
+      PARSER = new com.google.protobuf.AbstractParser<RequestBatch>() {
+    @java.lang.Override
+    public RequestBatch parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new RequestBatch(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RequestBatch> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RequestBatch> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.roomreservation.protobuf.protos.RequestBatch getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
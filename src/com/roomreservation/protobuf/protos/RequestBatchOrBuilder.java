@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: requestBatch.proto
+
+package com.roomreservation.protobuf.protos;
+
+public interface RequestBatchOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.roomreservation.collection.RequestBatch)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+   */
+  java.util.List<com.roomreservation.protobuf.protos.RequestObject> 
+      getRequestsList();
+  /**
+   * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+   */
+  com.roomreservation.protobuf.protos.RequestObject getRequests(int index);
+  /**
+   * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+   */
+  int getRequestsCount();
+  /**
+   * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+   */
+  java.util.List<? extends com.roomreservation.protobuf.protos.RequestObjectOrBuilder> 
+      getRequestsOrBuilderList();
+  /**
+   * <code>repeated .com.roomreservation.collection.RequestObject requests = 1;</code>
+   */
+  com.roomreservation.protobuf.protos.RequestObjectOrBuilder getRequestsOrBuilder(
+      int index);
+}
@@ -0,0 +1,53 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: requestBatch.proto
+
+package com.roomreservation.protobuf.protos;
+
+public final class RequestBatchProtos {
+  private RequestBatchProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_roomreservation_collection_RequestBatch_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_roomreservation_collection_RequestBatch_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\022requestBatch.proto\022\036com.roomreservatio" +
+      "n.collection\032\023requestObject.proto\"O\n\014Req" +
+      "uestBatch\022?\n\010requests\030\001 \003(\0132-.com.roomre" +
+      "servation.collection.RequestObjectB;\n#co" +
+      "m.roomreservation.protobuf.protosB\022Reque" +
+      "stBatchProtosP\001"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.roomreservation.protobuf.protos.RequestObjectProtos.getDescriptor(),
+        });
+    internal_static_com_roomreservation_collection_RequestBatch_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_com_roomreservation_collection_RequestBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_roomreservation_collection_RequestBatch_descriptor,
+        new java.lang.String[] { "Requests", });
+    com.roomreservation.protobuf.protos.RequestObjectProtos.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -7,5 +7,6 @@ public enum RequestObjectAction {
     ChangeReservation,
     GetBookingCount,
     CreateRoom,
-    DeleteRoom
+    DeleteRoom,
+    ListAvailableTimeslots
 }
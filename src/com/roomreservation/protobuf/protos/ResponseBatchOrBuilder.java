@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: responseBatch.proto
+
+package com.roomreservation.protobuf.protos;
+
+public interface ResponseBatchOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.roomreservation.collection.ResponseBatch)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .com.roomreservation.collection.ResponseObject responses = 1;</code>
+   */
+  java.util.List<com.roomreservation.protobuf.protos.ResponseObject> 
+      getResponsesList();
+  /**
+   * <code>repeated .com.roomreservation.collection.ResponseObject responses = 1;</code>
+   */
+  com.roomreservation.protobuf.protos.ResponseObject getResponses(int index);
+  /**
+   * <code>repeated .com.roomreservation.collection.ResponseObject responses = 1;</code>
+   */
+  int getResponsesCount();
+  /**
+   * <code>repeated .com.roomreservation.collection.ResponseObject responses = 1;</code>
+   */
+  java.util.List<? extends com.roomreservation.protobuf.protos.ResponseObjectOrBuilder> 
+      getResponsesOrBuilderList();
+  /**
+   * <code>repeated .com.roomreservation.collection.ResponseObject responses = 1;</code>
+   */
+  com.roomreservation.protobuf.protos.ResponseObjectOrBuilder getResponsesOrBuilder(
+      int index);
+}
@@ -0,0 +1,53 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: responseBatch.proto
+
+package com.roomreservation.protobuf.protos;
+
+public final class ResponseBatchProtos {
+  private ResponseBatchProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_roomreservation_collection_ResponseBatch_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_roomreservation_collection_ResponseBatch_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\023responseBatch.proto\022\036com.roomreservati" +
+      "on.collection\032\024responseObject.proto\"R\n\rR" +
+      "esponseBatch\022A\n\tresponses\030\001 \003(\0132..com.ro" +
+      "omreservation.collection.ResponseObjectB" +
+      "<\n#com.roomreservation.protobuf.protosB\023" +
+      "ResponseBatchProtosP\001"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.roomreservation.protobuf.protos.ResponseObjectProtos.getDescriptor(),
+        });
+    internal_static_com_roomreservation_collection_ResponseBatch_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_com_roomreservation_collection_ResponseBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_roomreservation_collection_ResponseBatch_descriptor,
+        new java.lang.String[] { "Responses", });
+    com.roomreservation.protobuf.protos.ResponseObjectProtos.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,941 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: snapshotRoom.proto
+
+package com.roomreservation.protobuf.protos;
+
+/**
+ * Protobuf type {@code com.roomreservation.collection.SnapshotBooking}
+ */
+public final class SnapshotBooking extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.roomreservation.collection.SnapshotBooking)
+    SnapshotBookingOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SnapshotBooking.newBuilder() to construct.
+  private SnapshotBooking(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SnapshotBooking() {
+    timeslot_ = "";
+    identifier_ = "";
+    bookingId_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new SnapshotBooking();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SnapshotBooking(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.google.protobuf.ByteString bs = input.readBytes();
+            bitField0_ |= 0x00000001;
+            timeslot_ = bs;
+            break;
+          }
+          case 18: {
+            com.google.protobuf.ByteString bs = input.readBytes();
+            bitField0_ |= 0x00000002;
+            identifier_ = bs;
+            break;
+          }
+          case 26: {
+            com.google.protobuf.ByteString bs = input.readBytes();
+            bitField0_ |= 0x00000004;
+            bookingId_ = bs;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.roomreservation.protobuf.protos.SnapshotRoomProtos.internal_static_com_roomreservation_collection_SnapshotBooking_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.roomreservation.protobuf.protos.SnapshotRoomProtos.internal_static_com_roomreservation_collection_SnapshotBooking_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.roomreservation.protobuf.protos.SnapshotBooking.class, com.roomreservation.protobuf.protos.SnapshotBooking.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int TIMESLOT_FIELD_NUMBER = 1;
+  private volatile java.lang.Object timeslot_;
+  /**
+   * <code>required string timeslot = 1;</code>
+   * @return Whether the timeslot field is set.
+   */
+  @java.lang.Override
+  public boolean hasTimeslot() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <code>required string timeslot = 1;</code>
+   * @return The timeslot.
+   */
+  @java.lang.Override
+  public java.lang.String getTimeslot() {
+    java.lang.Object ref = timeslot_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        timeslot_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string timeslot = 1;</code>
+   * @return The bytes for timeslot.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getTimeslotBytes() {
+    java.lang.Object ref = timeslot_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      timeslot_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int IDENTIFIER_FIELD_NUMBER = 2;
+  private volatile java.lang.Object identifier_;
+  /**
+   * <code>required string identifier = 2;</code>
+   * @return Whether the identifier field is set.
+   */
+  @java.lang.Override
+  public boolean hasIdentifier() {
+    return ((bitField0_ & 0x00000002) != 0);
+  }
+  /**
+   * <code>required string identifier = 2;</code>
+   * @return The identifier.
+   */
+  @java.lang.Override
+  public java.lang.String getIdentifier() {
+    java.lang.Object ref = identifier_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        identifier_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string identifier = 2;</code>
+   * @return The bytes for identifier.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getIdentifierBytes() {
+    java.lang.Object ref = identifier_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      identifier_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int BOOKINGID_FIELD_NUMBER = 3;
+  private volatile java.lang.Object bookingId_;
+  /**
+   * <code>required string bookingId = 3;</code>
+   * @return Whether the bookingId field is set.
+   */
+  @java.lang.Override
+  public boolean hasBookingId() {
+    return ((bitField0_ & 0x00000004) != 0);
+  }
+  /**
+   * <code>required string bookingId = 3;</code>
+   * @return The bookingId.
+   */
+  @java.lang.Override
+  public java.lang.String getBookingId() {
+    java.lang.Object ref = bookingId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        bookingId_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string bookingId = 3;</code>
+   * @return The bytes for bookingId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getBookingIdBytes() {
+    java.lang.Object ref = bookingId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      bookingId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    if (!hasTimeslot()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasIdentifier()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasBookingId()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (((bitField0_ & 0x00000001) != 0)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, timeslot_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, identifier_);
+    }
+    if (((bitField0_ & 0x00000004) != 0)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, bookingId_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, timeslot_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, identifier_);
+    }
+    if (((bitField0_ & 0x00000004) != 0)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, bookingId_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.roomreservation.protobuf.protos.SnapshotBooking)) {
+      return super.equals(obj);
+    }
+    com.roomreservation.protobuf.protos.SnapshotBooking other = (com.roomreservation.protobuf.protos.SnapshotBooking) obj;
+
+    if (hasTimeslot() != other.hasTimeslot()) return false;
+    if (hasTimeslot()) {
+      if (!getTimeslot()
+          .equals(other.getTimeslot())) return false;
+    }
+    if (hasIdentifier() != other.hasIdentifier()) return false;
+    if (hasIdentifier()) {
+      if (!getIdentifier()
+          .equals(other.getIdentifier())) return false;
+    }
+    if (hasBookingId() != other.hasBookingId()) return false;
+    if (hasBookingId()) {
+      if (!getBookingId()
+          .equals(other.getBookingId())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasTimeslot()) {
+      hash = (37 * hash) + TIMESLOT_FIELD_NUMBER;
+      hash = (53 * hash) + getTimeslot().hashCode();
+    }
+    if (hasIdentifier()) {
+      hash = (37 * hash) + IDENTIFIER_FIELD_NUMBER;
+      hash = (53 * hash) + getIdentifier().hashCode();
+    }
+    if (hasBookingId()) {
+      hash = (37 * hash) + BOOKINGID_FIELD_NUMBER;
+      hash = (53 * hash) + getBookingId().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.roomreservation.protobuf.protos.SnapshotBooking parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotBooking parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotBooking parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotBooking parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotBooking parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotBooking parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotBooking parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotBooking parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotBooking parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotBooking parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotBooking parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotBooking parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.roomreservation.protobuf.protos.SnapshotBooking prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code com.roomreservation.collection.SnapshotBooking}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.roomreservation.collection.SnapshotBooking)
+      com.roomreservation.protobuf.protos.SnapshotBookingOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.roomreservation.protobuf.protos.SnapshotRoomProtos.internal_static_com_roomreservation_collection_SnapshotBooking_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.roomreservation.protobuf.protos.SnapshotRoomProtos.internal_static_com_roomreservation_collection_SnapshotBooking_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.roomreservation.protobuf.protos.SnapshotBooking.class, com.roomreservation.protobuf.protos.SnapshotBooking.Builder.class);
+    }
+
+    // Construct using com.roomreservation.protobuf.protos.SnapshotBooking.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      timeslot_ = "";
+      bitField0_ = (bitField0_ & ~0x00000001);
+      identifier_ = "";
+      bitField0_ = (bitField0_ & ~0x00000002);
+      bookingId_ = "";
+      bitField0_ = (bitField0_ & ~0x00000004);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.roomreservation.protobuf.protos.SnapshotRoomProtos.internal_static_com_roomreservation_collection_SnapshotBooking_descriptor;
+    }
+
+    @java.lang.Override
+    public com.roomreservation.protobuf.protos.SnapshotBooking getDefaultInstanceForType() {
+      return com.roomreservation.protobuf.protos.SnapshotBooking.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.roomreservation.protobuf.protos.SnapshotBooking build() {
+      com.roomreservation.protobuf.protos.SnapshotBooking result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.roomreservation.protobuf.protos.SnapshotBooking buildPartial() {
+      com.roomreservation.protobuf.protos.SnapshotBooking result = new com.roomreservation.protobuf.protos.SnapshotBooking(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        to_bitField0_ |= 0x00000001;
+      }
+      result.timeslot_ = timeslot_;
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        to_bitField0_ |= 0x00000002;
+      }
+      result.identifier_ = identifier_;
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        to_bitField0_ |= 0x00000004;
+      }
+      result.bookingId_ = bookingId_;
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.roomreservation.protobuf.protos.SnapshotBooking) {
+        return mergeFrom((com.roomreservation.protobuf.protos.SnapshotBooking)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.roomreservation.protobuf.protos.SnapshotBooking other) {
+      if (other == com.roomreservation.protobuf.protos.SnapshotBooking.getDefaultInstance()) return this;
+      if (other.hasTimeslot()) {
+        bitField0_ |= 0x00000001;
+        timeslot_ = other.timeslot_;
+        onChanged();
+      }
+      if (other.hasIdentifier()) {
+        bitField0_ |= 0x00000002;
+        identifier_ = other.identifier_;
+        onChanged();
+      }
+      if (other.hasBookingId()) {
+        bitField0_ |= 0x00000004;
+        bookingId_ = other.bookingId_;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      if (!hasTimeslot()) {
+        return false;
+      }
+      if (!hasIdentifier()) {
+        return false;
+      }
+      if (!hasBookingId()) {
+        return false;
+      }
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.roomreservation.protobuf.protos.SnapshotBooking parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.roomreservation.protobuf.protos.SnapshotBooking) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object timeslot_ = "";
+    /**
+     * <code>required string timeslot = 1;</code>
+     * @return Whether the timeslot field is set.
+     */
+    public boolean hasTimeslot() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required string timeslot = 1;</code>
+     * @return The timeslot.
+     */
+    public java.lang.String getTimeslot() {
+      java.lang.Object ref = timeslot_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          timeslot_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string timeslot = 1;</code>
+     * @return The bytes for timeslot.
+     */
+    public com.google.protobuf.ByteString
+        getTimeslotBytes() {
+      java.lang.Object ref = timeslot_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        timeslot_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string timeslot = 1;</code>
+     * @param value The timeslot to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTimeslot(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+      timeslot_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string timeslot = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTimeslot() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      timeslot_ = getDefaultInstance().getTimeslot();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string timeslot = 1;</code>
+     * @param value The bytes for timeslot to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTimeslotBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+      timeslot_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object identifier_ = "";
+    /**
+     * <code>required string identifier = 2;</code>
+     * @return Whether the identifier field is set.
+     */
+    public boolean hasIdentifier() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required string identifier = 2;</code>
+     * @return The identifier.
+     */
+    public java.lang.String getIdentifier() {
+      java.lang.Object ref = identifier_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          identifier_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string identifier = 2;</code>
+     * @return The bytes for identifier.
+     */
+    public com.google.protobuf.ByteString
+        getIdentifierBytes() {
+      java.lang.Object ref = identifier_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        identifier_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string identifier = 2;</code>
+     * @param value The identifier to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIdentifier(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+      identifier_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string identifier = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearIdentifier() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      identifier_ = getDefaultInstance().getIdentifier();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string identifier = 2;</code>
+     * @param value The bytes for identifier to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIdentifierBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+      identifier_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object bookingId_ = "";
+    /**
+     * <code>required string bookingId = 3;</code>
+     * @return Whether the bookingId field is set.
+     */
+    public boolean hasBookingId() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>required string bookingId = 3;</code>
+     * @return The bookingId.
+     */
+    public java.lang.String getBookingId() {
+      java.lang.Object ref = bookingId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          bookingId_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string bookingId = 3;</code>
+     * @return The bytes for bookingId.
+     */
+    public com.google.protobuf.ByteString
+        getBookingIdBytes() {
+      java.lang.Object ref = bookingId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        bookingId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string bookingId = 3;</code>
+     * @param value The bookingId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBookingId(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+      bookingId_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string bookingId = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearBookingId() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      bookingId_ = getDefaultInstance().getBookingId();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string bookingId = 3;</code>
+     * @param value The bytes for bookingId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBookingIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+      bookingId_ = value;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.roomreservation.collection.SnapshotBooking)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.roomreservation.collection.SnapshotBooking)
+  private static final com.roomreservation.protobuf.protos.SnapshotBooking DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.roomreservation.protobuf.protos.SnapshotBooking();
+  }
+
+  public static com.roomreservation.protobuf.protos.SnapshotBooking getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  @java.lang.Deprecated public static final com.google.protobuf.Parser<SnapshotBooking>
+      PARSER = new com.google.protobuf.AbstractParser<SnapshotBooking>() {
+    @java.lang.Override
+    public SnapshotBooking parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SnapshotBooking(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SnapshotBooking> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SnapshotBooking> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.roomreservation.protobuf.protos.SnapshotBooking getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
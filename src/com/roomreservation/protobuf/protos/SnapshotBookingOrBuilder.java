@@ -0,0 +1,60 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: snapshotRoom.proto
+
+package com.roomreservation.protobuf.protos;
+
+public interface SnapshotBookingOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.roomreservation.collection.SnapshotBooking)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>required string timeslot = 1;</code>
+   * @return Whether the timeslot field is set.
+   */
+  boolean hasTimeslot();
+  /**
+   * <code>required string timeslot = 1;</code>
+   * @return The timeslot.
+   */
+  java.lang.String getTimeslot();
+  /**
+   * <code>required string timeslot = 1;</code>
+   * @return The bytes for timeslot.
+   */
+  com.google.protobuf.ByteString
+      getTimeslotBytes();
+
+  /**
+   * <code>required string identifier = 2;</code>
+   * @return Whether the identifier field is set.
+   */
+  boolean hasIdentifier();
+  /**
+   * <code>required string identifier = 2;</code>
+   * @return The identifier.
+   */
+  java.lang.String getIdentifier();
+  /**
+   * <code>required string identifier = 2;</code>
+   * @return The bytes for identifier.
+   */
+  com.google.protobuf.ByteString
+      getIdentifierBytes();
+
+  /**
+   * <code>required string bookingId = 3;</code>
+   * @return Whether the bookingId field is set.
+   */
+  boolean hasBookingId();
+  /**
+   * <code>required string bookingId = 3;</code>
+   * @return The bookingId.
+   */
+  java.lang.String getBookingId();
+  /**
+   * <code>required string bookingId = 3;</code>
+   * @return The bytes for bookingId.
+   */
+  com.google.protobuf.ByteString
+      getBookingIdBytes();
+}
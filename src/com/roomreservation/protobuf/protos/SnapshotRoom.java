@@ -0,0 +1,1242 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: snapshotRoom.proto
+
+package com.roomreservation.protobuf.protos;
+
+/**
+ * Protobuf type {@code com.roomreservation.collection.SnapshotRoom}
+ */
+public final class SnapshotRoom extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.roomreservation.collection.SnapshotRoom)
+    SnapshotRoomOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SnapshotRoom.newBuilder() to construct.
+  private SnapshotRoom(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SnapshotRoom() {
+    date_ = "";
+    timeslot_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    booking_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new SnapshotRoom();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SnapshotRoom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            com.google.protobuf.ByteString bs = input.readBytes();
+            bitField0_ |= 0x00000001;
+            date_ = bs;
+            break;
+          }
+          case 16: {
+            bitField0_ |= 0x00000002;
+            roomNumber_ = input.readInt32();
+            break;
+          }
+          case 26: {
+            com.google.protobuf.ByteString bs = input.readBytes();
+            if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+              timeslot_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000004;
+            }
+            timeslot_.add(bs);
+            break;
+          }
+          case 34: {
+            if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+              booking_ = new java.util.ArrayList<com.roomreservation.protobuf.protos.SnapshotBooking>();
+              mutable_bitField0_ |= 0x00000008;
+            }
+            booking_.add(
+                input.readMessage(com.roomreservation.protobuf.protos.SnapshotBooking.PARSER, extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000004) != 0)) {
+        timeslot_ = timeslot_.getUnmodifiableView();
+      }
+      if (((mutable_bitField0_ & 0x00000008) != 0)) {
+        booking_ = java.util.Collections.unmodifiableList(booking_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.roomreservation.protobuf.protos.SnapshotRoomProtos.internal_static_com_roomreservation_collection_SnapshotRoom_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.roomreservation.protobuf.protos.SnapshotRoomProtos.internal_static_com_roomreservation_collection_SnapshotRoom_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.roomreservation.protobuf.protos.SnapshotRoom.class, com.roomreservation.protobuf.protos.SnapshotRoom.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int DATE_FIELD_NUMBER = 1;
+  private volatile java.lang.Object date_;
+  /**
+   * <code>required string date = 1;</code>
+   * @return Whether the date field is set.
+   */
+  @java.lang.Override
+  public boolean hasDate() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <code>required string date = 1;</code>
+   * @return The date.
+   */
+  @java.lang.Override
+  public java.lang.String getDate() {
+    java.lang.Object ref = date_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        date_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>required string date = 1;</code>
+   * @return The bytes for date.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getDateBytes() {
+    java.lang.Object ref = date_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      date_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ROOMNUMBER_FIELD_NUMBER = 2;
+  private int roomNumber_;
+  /**
+   * <code>required int32 roomNumber = 2;</code>
+   * @return Whether the roomNumber field is set.
+   */
+  @java.lang.Override
+  public boolean hasRoomNumber() {
+    return ((bitField0_ & 0x00000002) != 0);
+  }
+  /**
+   * <code>required int32 roomNumber = 2;</code>
+   * @return The roomNumber.
+   */
+  @java.lang.Override
+  public int getRoomNumber() {
+    return roomNumber_;
+  }
+
+  public static final int TIMESLOT_FIELD_NUMBER = 3;
+  private com.google.protobuf.LazyStringList timeslot_;
+  /**
+   * <code>repeated string timeslot = 3;</code>
+   * @return A list containing the timeslot.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getTimeslotList() {
+    return timeslot_;
+  }
+  /**
+   * <code>repeated string timeslot = 3;</code>
+   * @return The count of timeslot.
+   */
+  public int getTimeslotCount() {
+    return timeslot_.size();
+  }
+  /**
+   * <code>repeated string timeslot = 3;</code>
+   * @param index The index of the element to return.
+   * @return The timeslot at the given index.
+   */
+  public java.lang.String getTimeslot(int index) {
+    return timeslot_.get(index);
+  }
+  /**
+   * <code>repeated string timeslot = 3;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the timeslot at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getTimeslotBytes(int index) {
+    return timeslot_.getByteString(index);
+  }
+
+  public static final int BOOKING_FIELD_NUMBER = 4;
+  private java.util.List<com.roomreservation.protobuf.protos.SnapshotBooking> booking_;
+  /**
+   * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.roomreservation.protobuf.protos.SnapshotBooking> getBookingList() {
+    return booking_;
+  }
+  /**
+   * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.roomreservation.protobuf.protos.SnapshotBookingOrBuilder> 
+      getBookingOrBuilderList() {
+    return booking_;
+  }
+  /**
+   * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+   */
+  @java.lang.Override
+  public int getBookingCount() {
+    return booking_.size();
+  }
+  /**
+   * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+   */
+  @java.lang.Override
+  public com.roomreservation.protobuf.protos.SnapshotBooking getBooking(int index) {
+    return booking_.get(index);
+  }
+  /**
+   * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+   */
+  @java.lang.Override
+  public com.roomreservation.protobuf.protos.SnapshotBookingOrBuilder getBookingOrBuilder(
+      int index) {
+    return booking_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    if (!hasDate()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    if (!hasRoomNumber()) {
+      memoizedIsInitialized = 0;
+      return false;
+    }
+    for (int i = 0; i < getBookingCount(); i++) {
+      if (!getBooking(i).isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+    }
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (((bitField0_ & 0x00000001) != 0)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, date_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      output.writeInt32(2, roomNumber_);
+    }
+    for (int i = 0; i < timeslot_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, timeslot_.getRaw(i));
+    }
+    for (int i = 0; i < booking_.size(); i++) {
+      output.writeMessage(4, booking_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, date_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(2, roomNumber_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < timeslot_.size(); i++) {
+        dataSize += computeStringSizeNoTag(timeslot_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getTimeslotList().size();
+    }
+    for (int i = 0; i < booking_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, booking_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.roomreservation.protobuf.protos.SnapshotRoom)) {
+      return super.equals(obj);
+    }
+    com.roomreservation.protobuf.protos.SnapshotRoom other = (com.roomreservation.protobuf.protos.SnapshotRoom) obj;
+
+    if (hasDate() != other.hasDate()) return false;
+    if (hasDate()) {
+      if (!getDate()
+          .equals(other.getDate())) return false;
+    }
+    if (hasRoomNumber() != other.hasRoomNumber()) return false;
+    if (hasRoomNumber()) {
+      if (getRoomNumber()
+          != other.getRoomNumber()) return false;
+    }
+    if (!getTimeslotList()
+        .equals(other.getTimeslotList())) return false;
+    if (!getBookingList()
+        .equals(other.getBookingList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasDate()) {
+      hash = (37 * hash) + DATE_FIELD_NUMBER;
+      hash = (53 * hash) + getDate().hashCode();
+    }
+    if (hasRoomNumber()) {
+      hash = (37 * hash) + ROOMNUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + getRoomNumber();
+    }
+    if (getTimeslotCount() > 0) {
+      hash = (37 * hash) + TIMESLOT_FIELD_NUMBER;
+      hash = (53 * hash) + getTimeslotList().hashCode();
+    }
+    if (getBookingCount() > 0) {
+      hash = (37 * hash) + BOOKING_FIELD_NUMBER;
+      hash = (53 * hash) + getBookingList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.roomreservation.protobuf.protos.SnapshotRoom parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotRoom parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotRoom parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotRoom parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotRoom parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotRoom parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotRoom parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotRoom parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotRoom parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotRoom parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotRoom parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.roomreservation.protobuf.protos.SnapshotRoom parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.roomreservation.protobuf.protos.SnapshotRoom prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code com.roomreservation.collection.SnapshotRoom}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.roomreservation.collection.SnapshotRoom)
+      com.roomreservation.protobuf.protos.SnapshotRoomOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.roomreservation.protobuf.protos.SnapshotRoomProtos.internal_static_com_roomreservation_collection_SnapshotRoom_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.roomreservation.protobuf.protos.SnapshotRoomProtos.internal_static_com_roomreservation_collection_SnapshotRoom_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.roomreservation.protobuf.protos.SnapshotRoom.class, com.roomreservation.protobuf.protos.SnapshotRoom.Builder.class);
+    }
+
+    // Construct using com.roomreservation.protobuf.protos.SnapshotRoom.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getBookingFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      date_ = "";
+      bitField0_ = (bitField0_ & ~0x00000001);
+      roomNumber_ = 0;
+      bitField0_ = (bitField0_ & ~0x00000002);
+      timeslot_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000004);
+      if (bookingBuilder_ == null) {
+        booking_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+      } else {
+        bookingBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.roomreservation.protobuf.protos.SnapshotRoomProtos.internal_static_com_roomreservation_collection_SnapshotRoom_descriptor;
+    }
+
+    @java.lang.Override
+    public com.roomreservation.protobuf.protos.SnapshotRoom getDefaultInstanceForType() {
+      return com.roomreservation.protobuf.protos.SnapshotRoom.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.roomreservation.protobuf.protos.SnapshotRoom build() {
+      com.roomreservation.protobuf.protos.SnapshotRoom result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.roomreservation.protobuf.protos.SnapshotRoom buildPartial() {
+      com.roomreservation.protobuf.protos.SnapshotRoom result = new com.roomreservation.protobuf.protos.SnapshotRoom(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        to_bitField0_ |= 0x00000001;
+      }
+      result.date_ = date_;
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.roomNumber_ = roomNumber_;
+        to_bitField0_ |= 0x00000002;
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        timeslot_ = timeslot_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000004);
+      }
+      result.timeslot_ = timeslot_;
+      if (bookingBuilder_ == null) {
+        if (((bitField0_ & 0x00000008) != 0)) {
+          booking_ = java.util.Collections.unmodifiableList(booking_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.booking_ = booking_;
+      } else {
+        result.booking_ = bookingBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.roomreservation.protobuf.protos.SnapshotRoom) {
+        return mergeFrom((com.roomreservation.protobuf.protos.SnapshotRoom)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.roomreservation.protobuf.protos.SnapshotRoom other) {
+      if (other == com.roomreservation.protobuf.protos.SnapshotRoom.getDefaultInstance()) return this;
+      if (other.hasDate()) {
+        bitField0_ |= 0x00000001;
+        date_ = other.date_;
+        onChanged();
+      }
+      if (other.hasRoomNumber()) {
+        setRoomNumber(other.getRoomNumber());
+      }
+      if (!other.timeslot_.isEmpty()) {
+        if (timeslot_.isEmpty()) {
+          timeslot_ = other.timeslot_;
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          ensureTimeslotIsMutable();
+          timeslot_.addAll(other.timeslot_);
+        }
+        onChanged();
+      }
+      if (bookingBuilder_ == null) {
+        if (!other.booking_.isEmpty()) {
+          if (booking_.isEmpty()) {
+            booking_ = other.booking_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureBookingIsMutable();
+            booking_.addAll(other.booking_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.booking_.isEmpty()) {
+          if (bookingBuilder_.isEmpty()) {
+            bookingBuilder_.dispose();
+            bookingBuilder_ = null;
+            booking_ = other.booking_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+            bookingBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getBookingFieldBuilder() : null;
+          } else {
+            bookingBuilder_.addAllMessages(other.booking_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      if (!hasDate()) {
+        return false;
+      }
+      if (!hasRoomNumber()) {
+        return false;
+      }
+      for (int i = 0; i < getBookingCount(); i++) {
+        if (!getBooking(i).isInitialized()) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      com.roomreservation.protobuf.protos.SnapshotRoom parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (com.roomreservation.protobuf.protos.SnapshotRoom) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object date_ = "";
+    /**
+     * <code>required string date = 1;</code>
+     * @return Whether the date field is set.
+     */
+    public boolean hasDate() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required string date = 1;</code>
+     * @return The date.
+     */
+    public java.lang.String getDate() {
+      java.lang.Object ref = date_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          date_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>required string date = 1;</code>
+     * @return The bytes for date.
+     */
+    public com.google.protobuf.ByteString
+        getDateBytes() {
+      java.lang.Object ref = date_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        date_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>required string date = 1;</code>
+     * @param value The date to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDate(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+      date_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string date = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearDate() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      date_ = getDefaultInstance().getDate();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required string date = 1;</code>
+     * @param value The bytes for date to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDateBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+      date_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int roomNumber_ ;
+    /**
+     * <code>required int32 roomNumber = 2;</code>
+     * @return Whether the roomNumber field is set.
+     */
+    @java.lang.Override
+    public boolean hasRoomNumber() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>required int32 roomNumber = 2;</code>
+     * @return The roomNumber.
+     */
+    @java.lang.Override
+    public int getRoomNumber() {
+      return roomNumber_;
+    }
+    /**
+     * <code>required int32 roomNumber = 2;</code>
+     * @param value The roomNumber to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRoomNumber(int value) {
+      bitField0_ |= 0x00000002;
+      roomNumber_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>required int32 roomNumber = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRoomNumber() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      roomNumber_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringList timeslot_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureTimeslotIsMutable() {
+      if (!((bitField0_ & 0x00000004) != 0)) {
+        timeslot_ = new com.google.protobuf.LazyStringArrayList(timeslot_);
+        bitField0_ |= 0x00000004;
+       }
+    }
+    /**
+     * <code>repeated string timeslot = 3;</code>
+     * @return A list containing the timeslot.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getTimeslotList() {
+      return timeslot_.getUnmodifiableView();
+    }
+    /**
+     * <code>repeated string timeslot = 3;</code>
+     * @return The count of timeslot.
+     */
+    public int getTimeslotCount() {
+      return timeslot_.size();
+    }
+    /**
+     * <code>repeated string timeslot = 3;</code>
+     * @param index The index of the element to return.
+     * @return The timeslot at the given index.
+     */
+    public java.lang.String getTimeslot(int index) {
+      return timeslot_.get(index);
+    }
+    /**
+     * <code>repeated string timeslot = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the timeslot at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getTimeslotBytes(int index) {
+      return timeslot_.getByteString(index);
+    }
+    /**
+     * <code>repeated string timeslot = 3;</code>
+     * @param index The index to set the value at.
+     * @param value The timeslot to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTimeslot(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureTimeslotIsMutable();
+      timeslot_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string timeslot = 3;</code>
+     * @param value The timeslot to add.
+     * @return This builder for chaining.
+     */
+    public Builder addTimeslot(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureTimeslotIsMutable();
+      timeslot_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string timeslot = 3;</code>
+     * @param values The timeslot to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllTimeslot(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureTimeslotIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, timeslot_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string timeslot = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTimeslot() {
+      timeslot_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000004);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string timeslot = 3;</code>
+     * @param value The bytes of the timeslot to add.
+     * @return This builder for chaining.
+     */
+    public Builder addTimeslotBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureTimeslotIsMutable();
+      timeslot_.add(value);
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<com.roomreservation.protobuf.protos.SnapshotBooking> booking_ =
+      java.util.Collections.emptyList();
+    private void ensureBookingIsMutable() {
+      if (!((bitField0_ & 0x00000008) != 0)) {
+        booking_ = new java.util.ArrayList<com.roomreservation.protobuf.protos.SnapshotBooking>(booking_);
+        bitField0_ |= 0x00000008;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.roomreservation.protobuf.protos.SnapshotBooking, com.roomreservation.protobuf.protos.SnapshotBooking.Builder, com.roomreservation.protobuf.protos.SnapshotBookingOrBuilder> bookingBuilder_;
+
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public java.util.List<com.roomreservation.protobuf.protos.SnapshotBooking> getBookingList() {
+      if (bookingBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(booking_);
+      } else {
+        return bookingBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public int getBookingCount() {
+      if (bookingBuilder_ == null) {
+        return booking_.size();
+      } else {
+        return bookingBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public com.roomreservation.protobuf.protos.SnapshotBooking getBooking(int index) {
+      if (bookingBuilder_ == null) {
+        return booking_.get(index);
+      } else {
+        return bookingBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public Builder setBooking(
+        int index, com.roomreservation.protobuf.protos.SnapshotBooking value) {
+      if (bookingBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBookingIsMutable();
+        booking_.set(index, value);
+        onChanged();
+      } else {
+        bookingBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public Builder setBooking(
+        int index, com.roomreservation.protobuf.protos.SnapshotBooking.Builder builderForValue) {
+      if (bookingBuilder_ == null) {
+        ensureBookingIsMutable();
+        booking_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        bookingBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public Builder addBooking(com.roomreservation.protobuf.protos.SnapshotBooking value) {
+      if (bookingBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBookingIsMutable();
+        booking_.add(value);
+        onChanged();
+      } else {
+        bookingBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public Builder addBooking(
+        int index, com.roomreservation.protobuf.protos.SnapshotBooking value) {
+      if (bookingBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBookingIsMutable();
+        booking_.add(index, value);
+        onChanged();
+      } else {
+        bookingBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public Builder addBooking(
+        com.roomreservation.protobuf.protos.SnapshotBooking.Builder builderForValue) {
+      if (bookingBuilder_ == null) {
+        ensureBookingIsMutable();
+        booking_.add(builderForValue.build());
+        onChanged();
+      } else {
+        bookingBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public Builder addBooking(
+        int index, com.roomreservation.protobuf.protos.SnapshotBooking.Builder builderForValue) {
+      if (bookingBuilder_ == null) {
+        ensureBookingIsMutable();
+        booking_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        bookingBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public Builder addAllBooking(
+        java.lang.Iterable<? extends com.roomreservation.protobuf.protos.SnapshotBooking> values) {
+      if (bookingBuilder_ == null) {
+        ensureBookingIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, booking_);
+        onChanged();
+      } else {
+        bookingBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public Builder clearBooking() {
+      if (bookingBuilder_ == null) {
+        booking_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+      } else {
+        bookingBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public Builder removeBooking(int index) {
+      if (bookingBuilder_ == null) {
+        ensureBookingIsMutable();
+        booking_.remove(index);
+        onChanged();
+      } else {
+        bookingBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public com.roomreservation.protobuf.protos.SnapshotBooking.Builder getBookingBuilder(
+        int index) {
+      return getBookingFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public com.roomreservation.protobuf.protos.SnapshotBookingOrBuilder getBookingOrBuilder(
+        int index) {
+      if (bookingBuilder_ == null) {
+        return booking_.get(index);  } else {
+        return bookingBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public java.util.List<? extends com.roomreservation.protobuf.protos.SnapshotBookingOrBuilder> 
+         getBookingOrBuilderList() {
+      if (bookingBuilder_ != null) {
+        return bookingBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(booking_);
+      }
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public com.roomreservation.protobuf.protos.SnapshotBooking.Builder addBookingBuilder() {
+      return getBookingFieldBuilder().addBuilder(
+          com.roomreservation.protobuf.protos.SnapshotBooking.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public com.roomreservation.protobuf.protos.SnapshotBooking.Builder addBookingBuilder(
+        int index) {
+      return getBookingFieldBuilder().addBuilder(
+          index, com.roomreservation.protobuf.protos.SnapshotBooking.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+     */
+    public java.util.List<com.roomreservation.protobuf.protos.SnapshotBooking.Builder> 
+         getBookingBuilderList() {
+      return getBookingFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.roomreservation.protobuf.protos.SnapshotBooking, com.roomreservation.protobuf.protos.SnapshotBooking.Builder, com.roomreservation.protobuf.protos.SnapshotBookingOrBuilder> 
+        getBookingFieldBuilder() {
+      if (bookingBuilder_ == null) {
+        bookingBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.roomreservation.protobuf.protos.SnapshotBooking, com.roomreservation.protobuf.protos.SnapshotBooking.Builder, com.roomreservation.protobuf.protos.SnapshotBookingOrBuilder>(
+                booking_,
+                ((bitField0_ & 0x00000008) != 0),
+                getParentForChildren(),
+                isClean());
+        booking_ = null;
+      }
+      return bookingBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.roomreservation.collection.SnapshotRoom)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.roomreservation.collection.SnapshotRoom)
+  private static final com.roomreservation.protobuf.protos.SnapshotRoom DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.roomreservation.protobuf.protos.SnapshotRoom();
+  }
+
+  public static com.roomreservation.protobuf.protos.SnapshotRoom getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  @java.lang.Deprecated public static final com.google.protobuf.Parser<SnapshotRoom>
+      PARSER = new com.google.protobuf.AbstractParser<SnapshotRoom>() {
+    @java.lang.Override
+    public SnapshotRoom parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SnapshotRoom(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SnapshotRoom> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SnapshotRoom> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.roomreservation.protobuf.protos.SnapshotRoom getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,86 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: snapshotRoom.proto
+
+package com.roomreservation.protobuf.protos;
+
+public interface SnapshotRoomOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.roomreservation.collection.SnapshotRoom)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>required string date = 1;</code>
+   * @return Whether the date field is set.
+   */
+  boolean hasDate();
+  /**
+   * <code>required string date = 1;</code>
+   * @return The date.
+   */
+  java.lang.String getDate();
+  /**
+   * <code>required string date = 1;</code>
+   * @return The bytes for date.
+   */
+  com.google.protobuf.ByteString
+      getDateBytes();
+
+  /**
+   * <code>required int32 roomNumber = 2;</code>
+   * @return Whether the roomNumber field is set.
+   */
+  boolean hasRoomNumber();
+  /**
+   * <code>required int32 roomNumber = 2;</code>
+   * @return The roomNumber.
+   */
+  int getRoomNumber();
+
+  /**
+   * <code>repeated string timeslot = 3;</code>
+   * @return A list containing the timeslot.
+   */
+  java.util.List<java.lang.String>
+      getTimeslotList();
+  /**
+   * <code>repeated string timeslot = 3;</code>
+   * @return The count of timeslot.
+   */
+  int getTimeslotCount();
+  /**
+   * <code>repeated string timeslot = 3;</code>
+   * @param index The index of the element to return.
+   * @return The timeslot at the given index.
+   */
+  java.lang.String getTimeslot(int index);
+  /**
+   * <code>repeated string timeslot = 3;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the timeslot at the given index.
+   */
+  com.google.protobuf.ByteString
+      getTimeslotBytes(int index);
+
+  /**
+   * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+   */
+  java.util.List<com.roomreservation.protobuf.protos.SnapshotBooking> 
+      getBookingList();
+  /**
+   * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+   */
+  com.roomreservation.protobuf.protos.SnapshotBooking getBooking(int index);
+  /**
+   * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+   */
+  int getBookingCount();
+  /**
+   * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+   */
+  java.util.List<? extends com.roomreservation.protobuf.protos.SnapshotBookingOrBuilder> 
+      getBookingOrBuilderList();
+  /**
+   * <code>repeated .com.roomreservation.collection.SnapshotBooking booking = 4;</code>
+   */
+  com.roomreservation.protobuf.protos.SnapshotBookingOrBuilder getBookingOrBuilder(
+      int index);
+}
@@ -0,0 +1,65 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: snapshotRoom.proto
+
+package com.roomreservation.protobuf.protos;
+
+public final class SnapshotRoomProtos {
+  private SnapshotRoomProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_roomreservation_collection_SnapshotRoom_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_roomreservation_collection_SnapshotRoom_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_roomreservation_collection_SnapshotBooking_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_roomreservation_collection_SnapshotBooking_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\022snapshotRoom.proto\022\036com.roomreservatio" +
+      "n.collection\"\204\001\n\014SnapshotRoom\022\014\n\004date\030\001 " +
+      "\002(\t\022\022\n\nroomNumber\030\002 \002(\005\022\020\n\010timeslot\030\003 \003(" +
+      "\t\022@\n\007booking\030\004 \003(\0132/.com.roomreservation" +
+      ".collection.SnapshotBooking\"J\n\017SnapshotB" +
+      "ooking\022\020\n\010timeslot\030\001 \002(\t\022\022\n\nidentifier\030\002" +
+      " \002(\t\022\021\n\tbookingId\030\003 \002(\tB;\n#com.roomreser" +
+      "vation.protobuf.protosB\022SnapshotRoomProt" +
+      "osP\001"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_com_roomreservation_collection_SnapshotRoom_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_com_roomreservation_collection_SnapshotRoom_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_roomreservation_collection_SnapshotRoom_descriptor,
+        new java.lang.String[] { "Date", "RoomNumber", "Timeslot", "Booking", });
+    internal_static_com_roomreservation_collection_SnapshotBooking_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_com_roomreservation_collection_SnapshotBooking_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_roomreservation_collection_SnapshotBooking_descriptor,
+        new java.lang.String[] { "Timeslot", "Identifier", "BookingId", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
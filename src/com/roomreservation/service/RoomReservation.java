@@ -52,6 +52,19 @@ public interface RoomReservation {
         @WebParam(name = "arg0", partName = "arg0")
         String arg0);
 
+    /**
+     * 
+     * @param arg0
+     * @return
+     *     returns byte[]
+     */
+    @WebMethod
+    @WebResult(partName = "return")
+    @Action(input = "http://roomreservation.com/RoomReservation/listAvailableTimeSlotRequest", output = "http://roomreservation.com/RoomReservation/listAvailableTimeSlotResponse")
+    public byte[] listAvailableTimeSlot(
+        @WebParam(name = "arg0", partName = "arg0")
+        String arg0);
+
     /**
      * 
      * @param arg3
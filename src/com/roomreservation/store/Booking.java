@@ -0,0 +1,19 @@
+package com.roomreservation.store;
+
+public class Booking {
+    private final String studentId;
+    private final String bookingId;
+
+    public Booking(String studentId, String bookingId){
+        this.studentId = studentId;
+        this.bookingId = bookingId;
+    }
+
+    public String getStudentId(){
+        return studentId;
+    }
+
+    public String getBookingId(){
+        return bookingId;
+    }
+}
@@ -0,0 +1,194 @@
+package com.roomreservation.store;
+
+import com.roomreservation.collection.ChainHashMap;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps track of the number of bookings made by each student per day so that
+ * the weekly booking limit can be checked without scanning every booking
+ */
+public class BookingQuota {
+    public static final int WINDOW_DAYS = 7;
+    public static final int INVALID_DAY = Integer.MIN_VALUE;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-M-d");
+
+    private final ChainHashMap<String, DayCounter> students = new ChainHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Converts date to epoch day
+     * @param date Date (ie. 2021-01-01)
+     * @return Number of days since 1970-01-01
+     */
+    public static int toEpochDay(String date){
+        return (int) LocalDate.parse(date, DATE_FORMAT).toEpochDay();
+    }
+
+    /**
+     * Tries to convert date to epoch day
+     * @param date Date (ie. 2021-01-01)
+     * @return Number of days since 1970-01-01 or INVALID_DAY if the date is malformed
+     */
+    public static int tryToEpochDay(String date){
+        try {
+            return toEpochDay(date);
+        } catch (DateTimeParseException e){
+            return INVALID_DAY;
+        }
+    }
+
+    /**
+     * Increases booking count for specific student on specific day. Days are only removed once their
+     * count drops back to 0, as bookings can be made and rebuilt in any date order and a later date
+     * says nothing about the windows of earlier ones; the counters never outgrow the live bookings.
+     * @param studentId User ID (ie. dvls1234)
+     * @param epochDay Epoch day
+     */
+    public void increment(String studentId, int epochDay){
+        lock.lock();
+        try {
+            DayCounter counter = students.get(studentId);
+            if (counter == null){
+                counter = new DayCounter();
+                students.put(studentId, counter);
+            }
+            counter.add(epochDay, 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Decreases booking count for specific student on specific day, days that reach 0 are evicted
+     * @param studentId User ID (ie. dvls1234)
+     * @param epochDay Epoch day
+     */
+    public void decrement(String studentId, int epochDay){
+        lock.lock();
+        try {
+            DayCounter counter = students.get(studentId);
+            if (counter != null){
+                counter.add(epochDay, -1);
+                if (counter.isEmpty())
+                    students.remove(studentId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Counts the bookings of a student in the week ending on a specific day (inclusive)
+     * @param studentId User ID (ie. dvls1234)
+     * @param epochDay Epoch day
+     * @return Number of bookings within the window
+     */
+    public int windowSum(String studentId, int epochDay){
+        lock.lock();
+        try {
+            DayCounter counter = students.get(studentId);
+            if (counter == null)
+                return 0;
+            int sum = 0;
+            for (int day = epochDay - WINDOW_DAYS + 1; day <= epochDay; day++)
+                sum += counter.get(day);
+            return sum;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ring of (epoch day, count) pairs indexed by epoch day modulo the capacity. Consecutive
+     * days land in consecutive slots, collisions are resolved by linear probing and days
+     * whose count drops to 0 are removed in place.
+     */
+    private static class DayCounter {
+        private int[] days = new int[8];
+        private int[] counts = new int[8];
+        private int size = 0;
+
+        private int home(int day){
+            return day & (days.length - 1);
+        }
+
+        private int indexOf(int day){
+            int mask = days.length - 1;
+            for (int i = home(day); counts[i] != 0; i = (i + 1) & mask){
+                if (days[i] == day)
+                    return i;
+            }
+            return -1;
+        }
+
+        int get(int day){
+            int i = indexOf(day);
+            return i == -1 ? 0 : counts[i];
+        }
+
+        boolean isEmpty(){
+            return size == 0;
+        }
+
+        void add(int day, int delta){
+            int i = indexOf(day);
+            if (i == -1){
+                if (delta <= 0)
+                    return;
+                if ((size + 1) * 2 > days.length)
+                    resize(days.length * 2);
+                int mask = days.length - 1;
+                i = home(day);
+                while (counts[i] != 0)
+                    i = (i + 1) & mask;
+                days[i] = day;
+                counts[i] = delta;
+                size++;
+            } else {
+                counts[i] += delta;
+                if (counts[i] <= 0)
+                    evict(i);
+            }
+        }
+
+        private void evict(int i){
+            int mask = days.length - 1;
+            int j = i;
+            while (true){
+                j = (j + 1) & mask;
+                if (counts[j] == 0)
+                    break;
+                int k = home(days[j]);
+                // Entry at j stays if its home slot lies cyclically in (i, j]
+                if ((i <= j) ? (i < k && k <= j) : (i < k || k <= j))
+                    continue;
+                days[i] = days[j];
+                counts[i] = counts[j];
+                i = j;
+            }
+            counts[i] = 0;
+            size--;
+        }
+
+        private void resize(int capacity){
+            int[] oldDays = days;
+            int[] oldCounts = counts;
+            days = new int[capacity];
+            counts = new int[capacity];
+            int mask = capacity - 1;
+            for (int j = 0; j < oldDays.length; j++){
+                if (oldCounts[j] != 0){
+                    int i = home(oldDays[j]);
+                    while (counts[i] != 0)
+                        i = (i + 1) & mask;
+                    days[i] = oldDays[j];
+                    counts[i] = oldCounts[j];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.roomreservation.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Thrown when a mutation has been applied to a room store but its write-ahead log record could not
+ * be made durable. The mutation is already visible and would be lost on restart, so the store must
+ * not serve further requests; the server is expected to stop.
+ */
+public class DurabilityException extends UncheckedIOException {
+    private static final long serialVersionUID = 1L;
+
+    public DurabilityException(String message, IOException cause){
+        super(message, cause);
+    }
+}
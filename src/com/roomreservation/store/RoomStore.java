@@ -0,0 +1,383 @@
+package com.roomreservation.store;
+
+import com.roomreservation.collection.ChainHashMap;
+import com.roomreservation.protobuf.protos.MutationRecord;
+import com.roomreservation.protobuf.protos.RequestObjectAction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory room database for a single campus, indexed by date, room number and timeslot.
+ * Creating and deleting rooms changes the indexes and takes the write lock. Booking and cancelling
+ * only change timeslot state, so they share the read lock and claim or release the timeslot with a
+ * single compare-and-set. Bookings of different timeslots never wait on each other.
+ * Once recovered from a write-ahead log, every mutation is appended to the log while its lock is held,
+ * so the log order matches the store, and committed after the lock is released. A mutation whose
+ * commit fails is reported with a DurabilityException, the server stops rather than serve it.
+ */
+public class RoomStore {
+
+    public enum CreateResult {
+        CREATED,
+        ADDED,
+        UNCHANGED
+    }
+
+    private final ChainHashMap<String, ChainHashMap<Integer, ChainHashMap<String, Timeslot>>> dates = new ChainHashMap<>();
+    private final ConcurrentHashMap<String, Timeslot> bookings = new ConcurrentHashMap<>();
+    private final ChainHashMap<String, AtomicInteger> available = new ChainHashMap<>();
+    private final ReentrantReadWriteLock databaseLock = new ReentrantReadWriteLock();
+    private volatile WriteAheadLog writeAheadLog;
+    private volatile DurabilityException failure;
+
+    /**
+     * Consistent copy of the store taken for a snapshot, with the position of the log it matches
+     */
+    static class View {
+        final long lsn;
+        final long logSize;
+        final List<Timeslot> timeslots;
+        final List<Booking> bookings;
+
+        View(long lsn, long logSize, List<Timeslot> timeslots, List<Booking> bookings){
+            this.lsn = lsn;
+            this.logSize = logSize;
+            this.timeslots = timeslots;
+            this.bookings = bookings;
+        }
+    }
+
+    /**
+     * Replays the mutations of a write-ahead log that follow the snapshot the store was loaded from,
+     * and logs every following mutation
+     * @param writeAheadLog Write-ahead log
+     * @param snapshotLsn LSN of the snapshot, 0 if none was loaded
+     * @return Number of mutations replayed
+     * @throws IOException Exception
+     */
+    public long recover(WriteAheadLog writeAheadLog, long snapshotLsn) throws IOException {
+        long replayed = writeAheadLog.replay(this::apply, snapshotLsn);
+        this.writeAheadLog = writeAheadLog;
+        return replayed;
+    }
+
+    /**
+     * Copies every timeslot with its booking under the write lock, so no mutation is half applied,
+     * together with the last LSN appended. Timeslots keep their room and date, only the booking
+     * reference is copied, so the lock is held for a single pass over the indexes.
+     * @return View of the store, grouped by date and room
+     */
+    View capture(){
+        databaseLock.writeLock().lock();
+        try {
+            List<Timeslot> timeslots = new ArrayList<>();
+            List<Booking> bookingsCopy = new ArrayList<>();
+            for (ChainHashMap<Integer, ChainHashMap<String, Timeslot>> rooms: dates.values()){
+                for (ChainHashMap<String, Timeslot> room: rooms.values()){
+                    for (Timeslot timeslot: room.values()){
+                        timeslots.add(timeslot);
+                        bookingsCopy.add(timeslot.getBooking());
+                    }
+                }
+            }
+            WriteAheadLog currentLog = writeAheadLog;
+            if (currentLog == null)
+                return new View(0, 0, timeslots, bookingsCopy);
+            return new View(currentLog.getAppendedLsn(), currentLog.getAppendedSize(), timeslots, bookingsCopy);
+        } finally {
+            databaseLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a logged mutation
+     * @param record Mutation record
+     */
+    private void apply(MutationRecord record){
+        Timeslot timeslot;
+        switch (RequestObjectAction.valueOf(record.getAction())){
+            case CreateRoom:
+                createRoom(record.getDate(), record.getRoomNumber(), record.getTimeslotList());
+                break;
+            case DeleteRoom:
+                deleteRoom(record.getDate(), record.getRoomNumber(), record.getTimeslotList());
+                break;
+            case BookRoom:
+                timeslot = getTimeslot(record.getDate(), record.getRoomNumber(), record.getTimeslot(0));
+                if (timeslot != null)
+                    book(timeslot, record.getIdentifier(), record.getBookingId());
+                break;
+            case CancelBooking:
+                timeslot = findBooking(record.getBookingId());
+                if (timeslot != null)
+                    release(timeslot, record.getBookingId());
+                break;
+        }
+    }
+
+    /**
+     * Creates room on a specific date, or adds the missing timeslots if the room already exist
+     * @param date Date
+     * @param roomNumber Campus room number
+     * @param timeslots List of timeslots to add
+     * @return CREATED if the room was created, ADDED if timeslots were added to an existing room, UNCHANGED otherwise
+     */
+    public CreateResult createRoom(String date, int roomNumber, List<String> timeslots){
+        CreateResult result;
+        long lsn = 0;
+        databaseLock.writeLock().lock();
+        try {
+            ChainHashMap<Integer, ChainHashMap<String, Timeslot>> rooms = dates.get(date);
+            if (rooms == null){
+                rooms = new ChainHashMap<>();
+                dates.put(date, rooms);
+                available.put(date, new AtomicInteger());
+            }
+            ChainHashMap<String, Timeslot> room = rooms.get(roomNumber);
+            boolean roomExist = room != null;
+            if (!roomExist){
+                room = new ChainHashMap<>();
+                rooms.put(roomNumber, room);
+            }
+            boolean timeslotCreated = false;
+            for (String timeslot: timeslots){
+                if (room.get(timeslot) == null){
+                    room.put(timeslot, new Timeslot(date, roomNumber, timeslot));
+                    available.get(date).incrementAndGet();
+                    timeslotCreated = true;
+                }
+            }
+            if (!roomExist)
+                result = CreateResult.CREATED;
+            else
+                result = timeslotCreated ? CreateResult.ADDED : CreateResult.UNCHANGED;
+            if (result != CreateResult.UNCHANGED)
+                lsn = log(newRecord(RequestObjectAction.CreateRoom, date, roomNumber).addAllTimeslot(timeslots));
+        } finally {
+            databaseLock.writeLock().unlock();
+        }
+        commit(lsn);
+        return result;
+    }
+
+    /**
+     * Removes timeslots from a room on a specific date
+     * @param date Date
+     * @param roomNumber Campus room number
+     * @param timeslots List of timeslots to remove
+     * @return Removed timeslots (empty if none existed)
+     */
+    public List<Timeslot> deleteRoom(String date, int roomNumber, List<String> timeslots){
+        List<Timeslot> removed = new ArrayList<>();
+        long lsn = 0;
+        databaseLock.writeLock().lock();
+        try {
+            ChainHashMap<String, Timeslot> room = getRoom(date, roomNumber);
+            if (room != null){
+                for (String timeslot: timeslots){
+                    Timeslot removedTimeslot = room.remove(timeslot);
+                    if (removedTimeslot != null) {
+                        removedTimeslot.markRemoved();
+                        if (removedTimeslot.isBooked())
+                            bookings.remove(removedTimeslot.getBookingId());
+                        else
+                            available.get(date).decrementAndGet();
+                        removed.add(removedTimeslot);
+                    }
+                }
+            }
+            if (!removed.isEmpty()){
+                MutationRecord.Builder record = newRecord(RequestObjectAction.DeleteRoom, date, roomNumber);
+                for (Timeslot removedTimeslot: removed)
+                    record.addTimeslot(removedTimeslot.getTimeslot());
+                lsn = log(record);
+            }
+        } finally {
+            databaseLock.writeLock().unlock();
+        }
+        commit(lsn);
+        return removed;
+    }
+
+    /**
+     * Gets timeslot at specific date, room and timeslot
+     * @param date Date
+     * @param roomNumber Campus room number
+     * @param timeslot Timeslot
+     * @return Timeslot or null if it does not exist
+     */
+    public Timeslot getTimeslot(String date, int roomNumber, String timeslot){
+        databaseLock.readLock().lock();
+        try {
+            ChainHashMap<String, Timeslot> room = getRoom(date, roomNumber);
+            if (room == null)
+                return null;
+            return room.get(timeslot);
+        } finally {
+            databaseLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Books timeslot for a student if it is still free. The booking is logged before it is indexed,
+     * so it cannot be cancelled by id before its record is in the log.
+     * @param timeslot Timeslot
+     * @param studentId User ID (ie. dvls1234)
+     * @param bookingId Booking id
+     * @return True if timeslot was booked, false if it was already booked or has been removed
+     */
+    public boolean book(Timeslot timeslot, String studentId, String bookingId){
+        long lsn;
+        databaseLock.readLock().lock();
+        try {
+            if (timeslot.isRemoved() || !timeslot.claim(new Booking(studentId, bookingId)))
+                return false;
+            lsn = log(newRecord(RequestObjectAction.BookRoom, timeslot).setIdentifier(studentId).setBookingId(bookingId));
+            bookings.put(bookingId, timeslot);
+            available.get(timeslot.getDate()).decrementAndGet();
+        } finally {
+            databaseLock.readLock().unlock();
+        }
+        commit(lsn);
+        return true;
+    }
+
+    /**
+     * Releases a booked timeslot if it still holds the specified booking
+     * @param timeslot Timeslot
+     * @param bookingId Booking id
+     * @return True if the booking was released, false if it no longer exist
+     */
+    public boolean release(Timeslot timeslot, String bookingId){
+        long lsn;
+        databaseLock.readLock().lock();
+        try {
+            Booking booking = timeslot.getBooking();
+            if (timeslot.isRemoved() || booking == null || !booking.getBookingId().equals(bookingId) || !timeslot.release(booking))
+                return false;
+            lsn = log(newRecord(RequestObjectAction.CancelBooking, timeslot).setIdentifier(booking.getStudentId()).setBookingId(bookingId));
+            bookings.remove(bookingId);
+            available.get(timeslot.getDate()).incrementAndGet();
+        } finally {
+            databaseLock.readLock().unlock();
+        }
+        commit(lsn);
+        return true;
+    }
+
+    /**
+     * Looks up a specific booking in the booking id index
+     * @param bookingId Booking id
+     * @return Booked timeslot or null if booking does not exist
+     */
+    public Timeslot findBooking(String bookingId){
+        return bookings.get(bookingId);
+    }
+
+    /**
+     * Lists every booked timeslot, used to rebuild the booking counts after recovery
+     * @return Booked timeslots
+     */
+    public List<Timeslot> listBookings(){
+        return new ArrayList<>(bookings.values());
+    }
+
+    /**
+     * Gets the number of free timeslots on a specific date from the availability counters
+     * @param date Date
+     * @return Number of free timeslots
+     */
+    public int countAvailable(String date){
+        databaseLock.readLock().lock();
+        try {
+            AtomicInteger counter = available.get(date);
+            if (counter == null)
+                return 0;
+            return counter.get();
+        } finally {
+            databaseLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lists the free timeslots of every room on a specific date
+     * @param date Date
+     * @return Free timeslots (empty if none exist)
+     */
+    public List<Timeslot> listAvailable(String date){
+        List<Timeslot> free = new ArrayList<>();
+        databaseLock.readLock().lock();
+        try {
+            ChainHashMap<Integer, ChainHashMap<String, Timeslot>> rooms = dates.get(date);
+            if (rooms != null){
+                for (ChainHashMap<String, Timeslot> room: rooms.values()){
+                    for (Timeslot timeslot: room.values()){
+                        if (!timeslot.isBooked())
+                            free.add(timeslot);
+                    }
+                }
+            }
+        } finally {
+            databaseLock.readLock().unlock();
+        }
+        return free;
+    }
+
+    /**
+     * Appends mutation to the write-ahead log, called with the database lock held
+     * @param record Mutation record
+     * @return LSN of the record, 0 if the store is not logged
+     */
+    private long log(MutationRecord.Builder record){
+        WriteAheadLog currentLog = writeAheadLog;
+        return currentLog == null ? 0 : currentLog.append(record);
+    }
+
+    /**
+     * Waits until a logged mutation is durable, called after the database lock is released. The mutation
+     * is already visible to other requests and cannot be undone while its record may still reach the log,
+     * so a failed commit is recorded and reported as a DurabilityException for the server to stop.
+     * @param lsn LSN of the record, 0 if the mutation was not logged
+     * @throws DurabilityException If the record could not be made durable
+     */
+    private void commit(long lsn){
+        if (lsn == 0)
+            return;
+        try {
+            writeAheadLog.commit(lsn);
+        } catch (UncheckedIOException e){
+            DurabilityException durabilityException = new DurabilityException("Mutation " + lsn + " is not durable: " + e.getMessage(), e.getCause());
+            if (failure == null)
+                failure = durabilityException;
+            throw durabilityException;
+        }
+    }
+
+    /**
+     * @return First commit failure, null while every mutation was made durable
+     */
+    public DurabilityException getFailure(){
+        return failure;
+    }
+
+    private static MutationRecord.Builder newRecord(RequestObjectAction action, String date, int roomNumber){
+        return MutationRecord.newBuilder().setLsn(0).setAction(action.toString()).setDate(date).setRoomNumber(roomNumber);
+    }
+
+    private static MutationRecord.Builder newRecord(RequestObjectAction action, Timeslot timeslot){
+        return newRecord(action, timeslot.getDate(), timeslot.getRoomNumber()).addTimeslot(timeslot.getTimeslot());
+    }
+
+    private ChainHashMap<String, Timeslot> getRoom(String date, int roomNumber){
+        ChainHashMap<Integer, ChainHashMap<String, Timeslot>> rooms = dates.get(date);
+        if (rooms == null)
+            return null;
+        return rooms.get(roomNumber);
+    }
+}
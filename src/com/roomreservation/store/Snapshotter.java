@@ -0,0 +1,219 @@
+package com.roomreservation.store;
+
+import com.roomreservation.protobuf.protos.SnapshotBooking;
+import com.roomreservation.protobuf.protos.SnapshotRoom;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.roomreservation.common.ConsoleColours.ANSI_RED;
+import static com.roomreservation.common.ConsoleColours.RESET;
+
+/**
+ * Periodically writes a compact snapshot of a room store so that startup only replays the write-ahead
+ * log after it. The store is copied in a single pass under its write lock; the snapshot is then
+ * written on a background thread as length-delimited SnapshotRoom messages, forced and renamed into
+ * place, next to the log as ie. data/DVL.00000000000000001234.snapshot for LSN 1234. Once it is
+ * durable the older snapshots are deleted and the records it covers are dropped from the log.
+ *
+ * Configured with the following system properties:
+ *   roomreservation.snapshot.interval   Time between snapshots in milliseconds (default: 60000)
+ *   roomreservation.snapshot.mutations  Minimum number of mutations logged since the last snapshot (default: 1000)
+ */
+public class Snapshotter {
+    private final String name;
+    private final File directory;
+    private final RoomStore roomStore;
+    private final WriteAheadLog writeAheadLog;
+    private final long interval;
+    private final long minMutations;
+    private final ScheduledExecutorService scheduler;
+    private volatile long snapshotLsn = 0;
+    private volatile long snapshotCount = 0;
+
+    /**
+     * @param name Campus name (dvl, wst, kkl)
+     * @param roomStore Room store
+     * @param writeAheadLog Write-ahead log of the store
+     */
+    public Snapshotter(String name, RoomStore roomStore, WriteAheadLog writeAheadLog){
+        this(name, roomStore, writeAheadLog, Long.getLong("roomreservation.snapshot.interval", 60000),
+                Long.getLong("roomreservation.snapshot.mutations", 1000));
+    }
+
+    public Snapshotter(String name, RoomStore roomStore, WriteAheadLog writeAheadLog, long interval, long minMutations){
+        this.name = name;
+        this.directory = writeAheadLog.getFile().getAbsoluteFile().getParentFile();
+        this.roomStore = roomStore;
+        this.writeAheadLog = writeAheadLog;
+        this.interval = interval;
+        this.minMutations = minMutations;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads the latest snapshot into the store, must be called before the store is recovered from its log
+     * @return LSN of the snapshot, 0 if there is none
+     * @throws IOException Exception
+     */
+    public long load() throws IOException {
+        long lsn = latestSnapshot();
+        if (lsn == 0)
+            return 0;
+        try (InputStream input = new BufferedInputStream(new FileInputStream(snapshotFile(lsn)), 64 * 1024)){
+            SnapshotRoom room;
+            while ((room = SnapshotRoom.parseDelimitedFrom(input)) != null){
+                roomStore.createRoom(room.getDate(), room.getRoomNumber(), room.getTimeslotList());
+                for (SnapshotBooking booking: room.getBookingList()){
+                    Timeslot timeslot = roomStore.getTimeslot(room.getDate(), room.getRoomNumber(), booking.getTimeslot());
+                    roomStore.book(timeslot, booking.getIdentifier(), booking.getBookingId());
+                }
+            }
+        }
+        snapshotLsn = lsn;
+        return lsn;
+    }
+
+    /**
+     * Starts taking snapshots periodically
+     */
+    public void start(){
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                snapshot(minMutations);
+            } catch (IOException | RuntimeException e){
+                System.out.println(ANSI_RED + "Snapshot " + name + ": " + e.getMessage() + RESET);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops taking snapshots, waiting for a snapshot in progress to finish
+     */
+    public void close(){
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes a snapshot if enough mutations were logged since the last one, then truncates the log
+     * @param minMutations Minimum number of mutations since the last snapshot
+     * @return True if a snapshot was written
+     * @throws IOException Exception
+     */
+    public synchronized boolean snapshot(long minMutations) throws IOException {
+        if (writeAheadLog.getAppendedLsn() - snapshotLsn < Math.max(minMutations, 1))
+            return false;
+        RoomStore.View view = roomStore.capture();
+        // The snapshot must not hold mutations that could still be lost from the log
+        writeAheadLog.commit(view.lsn);
+
+        File file = snapshotFile(view.lsn);
+        File temporaryFile = new File(file.getPath() + ".tmp");
+        try (FileOutputStream fileOutput = new FileOutputStream(temporaryFile);
+             OutputStream output = new BufferedOutputStream(fileOutput, 64 * 1024)){
+            SnapshotRoom.Builder room = null;
+            for (int i = 0; i < view.timeslots.size(); i++){
+                Timeslot timeslot = view.timeslots.get(i);
+                if (room == null || room.getRoomNumber() != timeslot.getRoomNumber() || !room.getDate().equals(timeslot.getDate())){
+                    if (room != null)
+                        room.build().writeDelimitedTo(output);
+                    room = SnapshotRoom.newBuilder().setDate(timeslot.getDate()).setRoomNumber(timeslot.getRoomNumber());
+                }
+                room.addTimeslot(timeslot.getTimeslot());
+                Booking booking = view.bookings.get(i);
+                if (booking != null)
+                    room.addBooking(SnapshotBooking.newBuilder().setTimeslot(timeslot.getTimeslot())
+                            .setIdentifier(booking.getStudentId()).setBookingId(booking.getBookingId()));
+            }
+            if (room != null)
+                room.build().writeDelimitedTo(output);
+            output.flush();
+            fileOutput.getFD().sync();
+        }
+        Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+
+        long previousLsn = snapshotLsn;
+        snapshotLsn = view.lsn;
+        snapshotCount++;
+        if (previousLsn > 0)
+            snapshotFile(previousLsn).delete();
+        writeAheadLog.truncate(view.lsn, view.logSize);
+        return true;
+    }
+
+    /**
+     * Forces the rename of the snapshot to disk, not supported on every platform
+     */
+    private void syncDirectory(){
+        try (FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)){
+            channel.force(true);
+        } catch (IOException e){
+            // Directories cannot be opened on some platforms, the rename is made durable by the OS
+        }
+    }
+
+    /**
+     * Finds the latest complete snapshot, older snapshots and temporary files left by a crash are deleted
+     * @return LSN of the snapshot, 0 if there is none
+     */
+    private long latestSnapshot(){
+        Pattern pattern = Pattern.compile(Pattern.quote(name) + "\\.(\\d{20})\\.snapshot(\\.tmp)?");
+        String[] names = directory.list();
+        if (names == null)
+            return 0;
+        long latest = 0;
+        for (String fileName: names){
+            Matcher matcher = pattern.matcher(fileName);
+            if (matcher.matches() && matcher.group(2) == null)
+                latest = Math.max(latest, Long.parseLong(matcher.group(1)));
+        }
+        for (String fileName: names){
+            Matcher matcher = pattern.matcher(fileName);
+            if (matcher.matches() && (matcher.group(2) != null || Long.parseLong(matcher.group(1)) != latest))
+                new File(directory, fileName).delete();
+        }
+        return latest;
+    }
+
+    private File snapshotFile(long lsn){
+        return new File(directory, String.format("%s.%020d.snapshot", name, lsn));
+    }
+
+    public long getSnapshotLsn(){
+        return snapshotLsn;
+    }
+
+    public long getSnapshotCount(){
+        return snapshotCount;
+    }
+
+    @Override
+    public String toString(){
+        return name + ": Snapshot LSN: " + snapshotLsn + " | Snapshots: " + snapshotCount + " | " + writeAheadLog;
+    }
+}
@@ -0,0 +1,77 @@
+package com.roomreservation.store;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Timeslot of a room on a specific date. The booking state is a single atomic cell that is
+ * either empty (free) or holds the booking, so it can be claimed and released with compare-and-set.
+ */
+public class Timeslot {
+    private final String date;
+    private final int roomNumber;
+    private final String timeslot;
+    private final AtomicReference<Booking> booking = new AtomicReference<>();
+    private volatile boolean removed = false;
+
+    public Timeslot(String date, int roomNumber, String timeslot){
+        this.date = date;
+        this.roomNumber = roomNumber;
+        this.timeslot = timeslot;
+    }
+
+    public String getDate(){
+        return date;
+    }
+
+    public int getRoomNumber(){
+        return roomNumber;
+    }
+
+    public String getTimeslot(){
+        return timeslot;
+    }
+
+    public Booking getBooking(){
+        return booking.get();
+    }
+
+    public String getStudentId(){
+        Booking current = booking.get();
+        return current == null ? null : current.getStudentId();
+    }
+
+    public String getBookingId(){
+        Booking current = booking.get();
+        return current == null ? null : current.getBookingId();
+    }
+
+    public boolean isBooked(){
+        return booking.get() != null;
+    }
+
+    public boolean isRemoved(){
+        return removed;
+    }
+
+    protected void markRemoved(){
+        this.removed = true;
+    }
+
+    /**
+     * Claims the timeslot if it is free
+     * @param newBooking Booking
+     * @return True if the timeslot was claimed
+     */
+    protected boolean claim(Booking newBooking){
+        return booking.compareAndSet(null, newBooking);
+    }
+
+    /**
+     * Releases the timeslot if it still holds the expected booking
+     * @param expected Booking
+     * @return True if the timeslot was released
+     */
+    protected boolean release(Booking expected){
+        return booking.compareAndSet(expected, null);
+    }
+}
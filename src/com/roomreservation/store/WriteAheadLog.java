@@ -0,0 +1,331 @@
+package com.roomreservation.store;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.roomreservation.protobuf.protos.MutationRecord;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import static com.roomreservation.common.ConsoleColours.ANSI_RED;
+import static com.roomreservation.common.ConsoleColours.RESET;
+
+/**
+ * Durable log of the mutations of a room store, replayed on startup to restore the campus state.
+ * Every record gets the next log sequence number (LSN) and is framed as its length, a CRC32 and the
+ * MutationRecord, so a record torn by a crash is detected and discarded on replay.
+ * Appending only copies the record into a buffer. Committing writes and forces every record buffered
+ * so far; requests committing while another commit is on disk wait for it and are then made durable
+ * together by the next one, so concurrent mutations share a single fsync (group commit).
+ * Records covered by a snapshot are dropped by rewriting the log with only the records after it.
+ *
+ * Configured with the following system properties:
+ *   roomreservation.wal.directory  Directory of the log files (default: data)
+ *   roomreservation.wal.fsync      Force commits to disk, false leaves it to the OS (default: true)
+ */
+public class WriteAheadLog implements Closeable {
+    private static final int MAX_RECORD_SIZE = 1024 * 1024;
+
+    private final File file;
+    private FileChannel channel;
+    private final boolean fsync;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition committed = lock.newCondition();
+    private final CRC32 checksum = new CRC32();
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream(64 * 1024);
+    private ByteArrayOutputStream standby = new ByteArrayOutputStream(64 * 1024);
+    private boolean committing = false;
+    private long nextLsn = 1;
+    private long appendedLsn = 0;
+    private long durableLsn = 0;
+    private long durableSize = 0;
+    private long commitCount = 0;
+    private IOException failure = null;
+
+    /**
+     * Opens the log of a campus
+     * @param name Campus name (dvl, wst, kkl)
+     * @throws IOException Exception
+     */
+    public WriteAheadLog(String name) throws IOException {
+        this(new File(System.getProperty("roomreservation.wal.directory", "data"), name + ".wal"),
+                Boolean.parseBoolean(System.getProperty("roomreservation.wal.fsync", "true")));
+    }
+
+    /**
+     * Opens log file, creating it if it does not exist
+     * @param file Log file
+     * @param fsync True to force commits to disk
+     * @throws IOException Exception
+     */
+    public WriteAheadLog(File file, boolean fsync) throws IOException {
+        this.file = file;
+        this.fsync = fsync;
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null)
+            directory.mkdirs();
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Reads every valid record in order and positions the log after the last one. A torn or corrupted
+     * record ends the replay and is truncated together with everything after it.
+     * Must be called before the first append.
+     * @param consumer Called with each record after the snapshot
+     * @param snapshotLsn LSN of the snapshot the store was loaded from, 0 if none
+     * @return Number of records replayed
+     * @throws IOException Exception
+     */
+    public long replay(Consumer<MutationRecord> consumer, long snapshotLsn) throws IOException {
+        channel.position(0);
+        // The stream is not closed, that would close the channel
+        DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 64 * 1024));
+        long position = 0;
+        long count = 0;
+        while (true){
+            MutationRecord record;
+            try {
+                int length = input.readInt();
+                int expectedChecksum = input.readInt();
+                if (length < 0 || length > MAX_RECORD_SIZE)
+                    break;
+                byte[] bytes = new byte[length];
+                input.readFully(bytes);
+                checksum.reset();
+                checksum.update(bytes, 0, length);
+                if ((int) checksum.getValue() != expectedChecksum)
+                    break;
+                record = MutationRecord.parseFrom(bytes);
+                position += 8 + length;
+            } catch (EOFException | InvalidProtocolBufferException e){
+                break;
+            }
+            nextLsn = record.getLsn() + 1;
+            if (record.getLsn() <= snapshotLsn)
+                continue; // Already in the snapshot, left by a crash before the log was truncated
+            consumer.accept(record);
+            count++;
+        }
+        nextLsn = Math.max(nextLsn, snapshotLsn + 1);
+        if (position < channel.size()){
+            System.out.println(ANSI_RED + "Discarding " + (channel.size() - position) + " bytes of torn records at the end of " + file + RESET);
+            channel.truncate(position);
+        }
+        channel.position(position);
+        appendedLsn = durableLsn = nextLsn - 1;
+        durableSize = position;
+        return count;
+    }
+
+    /**
+     * Buffers record, it is not durable until committed
+     * @param record Mutation record, the LSN is set by the log
+     * @return LSN of the record
+     */
+    public long append(MutationRecord.Builder record){
+        lock.lock();
+        try {
+            long lsn = nextLsn++;
+            byte[] bytes = record.setLsn(lsn).build().toByteArray();
+            checksum.reset();
+            checksum.update(bytes, 0, bytes.length);
+            writeInt(pending, bytes.length);
+            writeInt(pending, (int) checksum.getValue());
+            pending.write(bytes, 0, bytes.length);
+            appendedLsn = lsn;
+            return lsn;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until a record is durable, writing and forcing the buffered records unless another
+     * thread is already doing so. A failed commit fails the log: the records are already applied to
+     * the store and interleaved with records of other requests, so none of them can be dropped alone
+     * and every later commit fails as well.
+     * @param lsn LSN of the record
+     * @throws UncheckedIOException If the records could not be written, now or by an earlier commit
+     */
+    public void commit(long lsn){
+        lock.lock();
+        try {
+            while (durableLsn < lsn){
+                if (failure != null)
+                    throw new UncheckedIOException("Unable to commit " + file + ", an earlier commit failed", failure);
+                if (committing){
+                    committed.awaitUninterruptibly();
+                    continue;
+                }
+                committing = true;
+                ByteArrayOutputStream batch = pending;
+                long batchLsn = appendedLsn;
+                FileChannel batchChannel = channel;
+                pending = standby;
+                IOException writeFailure = null;
+                lock.unlock();
+                try {
+                    batch.writeTo(Channels.newOutputStream(batchChannel));
+                    if (fsync)
+                        batchChannel.force(false);
+                } catch (IOException e){
+                    writeFailure = e;
+                } finally {
+                    lock.lock();
+                }
+                committing = false;
+                committed.signalAll();
+                if (writeFailure != null){
+                    // Drop the partial write so the log still ends on a whole record
+                    try {
+                        channel.truncate(durableSize);
+                    } catch (IOException e){
+                        writeFailure.addSuppressed(e);
+                    }
+                    this.failure = writeFailure;
+                    throw new UncheckedIOException("Unable to commit " + file, writeFailure);
+                }
+                durableLsn = batchLsn;
+                durableSize += batch.size();
+                commitCount++;
+                batch.reset();
+                standby = batch;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the records up to an LSN once a snapshot covering them is durable. The records after it
+     * are copied to a new file that atomically replaces the log, appends wait during the copy.
+     * @param lsn LSN of the snapshot
+     * @param position Size of the log up to and including the record of the LSN, see getAppendedSize
+     * @throws IOException Exception
+     */
+    public void truncate(long lsn, long position) throws IOException {
+        commit(lsn);
+        lock.lock();
+        try {
+            while (committing)
+                committed.awaitUninterruptibly();
+            File truncatedFile = new File(file.getPath() + ".tmp");
+            long tailSize = durableSize - position;
+            try (FileChannel truncatedChannel = FileChannel.open(truncatedFile.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)){
+                for (long copied = 0; copied < tailSize; )
+                    copied += channel.transferTo(position + copied, tailSize - copied, truncatedChannel);
+                truncatedChannel.force(true);
+            }
+            Files.move(truncatedFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel.close();
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(tailSize);
+            durableSize = tailSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Commits buffered records and closes the log file, a failed log is closed as it is
+     * @throws IOException Exception
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        long lsn;
+        try {
+            lsn = failure == null ? appendedLsn : 0;
+        } finally {
+            lock.unlock();
+        }
+        commit(lsn);
+        lock.lock();
+        try {
+            while (committing)
+                committed.awaitUninterruptibly();
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void writeInt(ByteArrayOutputStream output, int value){
+        output.write(value >>> 24);
+        output.write(value >>> 16);
+        output.write(value >>> 8);
+        output.write(value);
+    }
+
+    public File getFile(){
+        return file;
+    }
+
+    /**
+     * @return LSN of the last record appended
+     */
+    public long getAppendedLsn(){
+        lock.lock();
+        try {
+            return appendedLsn;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Size of the log including the records not committed yet
+     */
+    public long getAppendedSize(){
+        lock.lock();
+        try {
+            return durableSize + pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDurableLsn(){
+        lock.lock();
+        try {
+            return durableLsn;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getCommitCount(){
+        lock.lock();
+        try {
+            return commitCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString(){
+        lock.lock();
+        try {
+            return file + ": Appended LSN: " + appendedLsn + " | Durable LSN: " + durableLsn + " | Commits: " + commitCount
+                    + " | Size: " + durableSize + " bytes";
+        } finally {
+            lock.unlock();
+        }
+    }
+}